@@ -0,0 +1,107 @@
+package net.jmp.spring.boot.cleaners.benchmarks;
+
+/*
+ * (#)BenchmarkContext.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+
+import java.util.stream.Stream;
+
+import net.jmp.spring.boot.cleaners.BootstrapSpring;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import org.springframework.context.support.GenericApplicationContext;
+
+/// Starts the application context used by the benchmarks.
+/// The test profile keeps the command line runner from
+/// running the application and the per-operation loggers
+/// are quietened so that logging is not measured. The leak
+/// sampling and the reclamation assist that the application
+/// turns on for its demonstration are turned off, so that
+/// registrations are measured without a stack capture and
+/// collections are requested only by the benchmarks. The
+/// properties are passed as command line arguments, so they
+/// take precedence over application.properties.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+final class BenchmarkContext {
+    /// The properties that quieten the per-operation loggers.
+    private static final String[] QUIET_LOGGERS = {
+            "logging.level.net.jmp.spring.boot.cleaners.classes.Room$State=warn",
+            "logging.level.net.jmp.spring.boot.cleaners.classes.ThreadRunner=warn",
+            "logging.level.net.jmp.spring.boot.cleaners.classes.ThreadRunner$State=warn",
+            "logging.level.net.jmp.spring.boot.cleaners.components.ResourceCleaner=error"
+    };
+
+    /// The properties that keep the demonstration settings out.
+    private static final String[] BENCHMARK_SETTINGS = {
+            "cleaners.resource-cleaner.leak-sampling-rate=0",
+            "cleaners.reclamation-assist.enabled=false"
+    };
+
+    /// The default constructor.
+    private BenchmarkContext() {
+        super();
+    }
+
+    /// Starts an application context.
+    ///
+    /// @param  properties  java.lang.String[]
+    /// @return             org.springframework.context.ConfigurableApplicationContext
+    static ConfigurableApplicationContext start(final String... properties) {
+        return start(_ -> {}, properties);
+    }
+
+    /// Starts an application context, letting the
+    /// initializer register beans of its own first.
+    ///
+    /// @param  initializer org.springframework.context.ApplicationContextInitializer<org.springframework.context.support.GenericApplicationContext>
+    /// @param  properties  java.lang.String[]
+    /// @return             org.springframework.context.ConfigurableApplicationContext
+    static ConfigurableApplicationContext start(final ApplicationContextInitializer<GenericApplicationContext> initializer,
+                                                final String... properties) {
+        return new SpringApplicationBuilder(BootstrapSpring.class)
+                .initializers(initializer)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run(Stream.of(QUIET_LOGGERS, BENCHMARK_SETTINGS, properties)
+                        .flatMap(Arrays::stream)
+                        .map(property -> "--" + property)
+                        .toArray(String[]::new));
+    }
+}
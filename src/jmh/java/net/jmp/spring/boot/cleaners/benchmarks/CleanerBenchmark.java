@@ -0,0 +1,226 @@
+package net.jmp.spring.boot.cleaners.benchmarks;
+
+/*
+ * (#)CleanerBenchmark.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.ref.Cleaner;
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.spring.boot.cleaners.classes.Room;
+import net.jmp.spring.boot.cleaners.classes.ThreadRunner;
+
+import net.jmp.spring.boot.cleaners.components.CleanupMetrics;
+import net.jmp.spring.boot.cleaners.components.ResourceCleaner;
+
+import org.openjdk.jmh.annotations.*;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+/// Measures the cost of cleaner registration and cleanup for
+/// rooms and thread runners that are closed explicitly, closed
+/// by try-with-resources, or abandoned to the garbage collector.
+/// Run with the gc profiler to report the allocation rate.
+///
+/// The abandonment latency benchmarks wait for the cleanup
+/// metrics of the resource type to count one more cleanup by
+/// the cleaner. The count is recorded by the tracked action
+/// of the state itself once it has run, so the wait ends when
+/// the cleanup of the state has actually completed.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CleanerBenchmark {
+    /// The name given to each room.
+    private static final String ROOM_NAME = "Benchmark";
+
+    /// The application context.
+    private ConfigurableApplicationContext context;
+
+    /// The resource cleaner.
+    private ResourceCleaner resourceCleaner;
+
+    /// The default constructor.
+    public CleanerBenchmark() {
+        super();
+    }
+
+    /// Starts the context.
+    @Setup(Level.Trial)
+    public void setup() {
+        this.context = BenchmarkContext.start();
+        this.resourceCleaner = this.context.getBean(ResourceCleaner.class);
+    }
+
+    /// Closes the context.
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    /// Registers an empty action and cleans it,
+    /// the cost floor for the benchmarks below.
+    ///
+    /// @return java.lang.ref.Cleaner.Cleanable
+    @Benchmark
+    public Cleaner.Cleanable registerAndClean() {
+        final Object referent = new Object();
+        final Cleaner.Cleanable cleanable = this.resourceCleaner.getCleaner(referent).register(referent, () -> {});
+
+        cleanable.clean();
+
+        return cleanable;
+    }
+
+    /// A room closed explicitly.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.classes.Room
+    @Benchmark
+    public Room roomExplicitClose() {
+        final Room room = this.context.getBean(Room.class);
+
+        room.setup(ROOM_NAME, 1);
+        room.close();
+
+        return room;
+    }
+
+    /// A room closed by try-with-resources.
+    ///
+    /// @return int
+    @Benchmark
+    public int roomTryWithResources() {
+        try (final Room room = this.context.getBean(Room.class)) {
+            room.setup(ROOM_NAME, 1);
+
+            return room.getNumberOfJunkPiles();
+        }
+    }
+
+    /// A room that is abandoned and left for
+    /// the cleaner once it is garbage collected.
+    ///
+    /// @return int
+    @Benchmark
+    public int roomAbandoned() {
+        final Room room = this.context.getBean(Room.class);
+
+        room.setup(ROOM_NAME, 1);
+
+        return room.getNumberOfJunkPiles();
+    }
+
+    /// A thread runner closed explicitly.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.classes.ThreadRunner
+    @Benchmark
+    public ThreadRunner threadRunnerExplicitClose() {
+        final ThreadRunner threadRunner = this.context.getBean(ThreadRunner.class);
+
+        threadRunner.setup();
+        threadRunner.close();
+
+        return threadRunner;
+    }
+
+    /// A thread runner closed by try-with-resources.
+    ///
+    /// @return boolean
+    @Benchmark
+    public boolean threadRunnerTryWithResources() {
+        try (final ThreadRunner threadRunner = this.context.getBean(ThreadRunner.class)) {
+            threadRunner.setup();
+
+            return threadRunner.getExecutorService().isShutdown();
+        }
+    }
+
+    /// The latency from abandoning a room until its cleanup
+    /// action has run, including the requested collection.
+    ///
+    /// @throws java.lang.InterruptedException  When interrupted while waiting
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void roomAbandonedUntilCleaned() throws InterruptedException {
+        final CleanupMetrics metrics = this.resourceCleaner.getMetrics(Room.class);
+        final long cleaned = metrics.getCleanedByCleaner();
+
+        Room room = this.context.getBean(Room.class);
+
+        room.setup(ROOM_NAME, 1);
+
+        room = null;
+
+        System.gc();
+
+        awaitCleanedByCleaner(metrics, cleaned);
+    }
+
+    /// The latency from abandoning a thread runner until its
+    /// cleanup action has run, including the requested collection.
+    ///
+    /// @throws java.lang.InterruptedException  When interrupted while waiting
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void threadRunnerAbandonedUntilCleaned() throws InterruptedException {
+        final CleanupMetrics metrics = this.resourceCleaner.getMetrics(ThreadRunner.class);
+        final long cleaned = metrics.getCleanedByCleaner();
+
+        ThreadRunner threadRunner = this.context.getBean(ThreadRunner.class);
+
+        threadRunner.setup();
+
+        threadRunner = null;
+
+        System.gc();
+
+        awaitCleanedByCleaner(metrics, cleaned);
+    }
+
+    /// Spins until the cleaner has cleaned more
+    /// resources than it had before the abandonment.
+    ///
+    /// @param  metrics     net.jmp.spring.boot.cleaners.components.CleanupMetrics
+    /// @param  cleaned     long
+    /// @throws java.lang.InterruptedException  When interrupted while waiting
+    private static void awaitCleanedByCleaner(final CleanupMetrics metrics, final long cleaned)
+            throws InterruptedException {
+        while (metrics.getCleanedByCleaner() == cleaned) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+
+            Thread.onSpinWait();
+        }
+    }
+}
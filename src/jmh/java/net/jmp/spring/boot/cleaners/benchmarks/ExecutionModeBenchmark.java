@@ -0,0 +1,100 @@
+package net.jmp.spring.boot.cleaners.benchmarks;
+
+/*
+ * (#)ExecutionModeBenchmark.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.spring.boot.cleaners.classes.ThreadRunner;
+
+import org.openjdk.jmh.annotations.*;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+/// Compares the task submit-to-completion latency of the
+/// platform and virtual thread runner execution modes. Each
+/// invocation submits the given number of tasks and waits
+/// for the last of them to complete.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExecutionModeBenchmark {
+    /// The execution mode.
+    @Param({"platform", "virtual"})
+    public String executionMode;
+
+    /// The number of tasks per invocation.
+    @Param({"10", "1000", "100000"})
+    public int tasks;
+
+    /// The application context.
+    private ConfigurableApplicationContext context;
+
+    /// The thread runner.
+    private ThreadRunner threadRunner;
+
+    /// The default constructor.
+    public ExecutionModeBenchmark() {
+        super();
+    }
+
+    /// Starts the context and sets up the thread runner.
+    @Setup(Level.Trial)
+    public void setup() {
+        this.context = BenchmarkContext.start("cleaners.thread-runner.execution-mode=" + this.executionMode);
+        this.threadRunner = this.context.getBean(ThreadRunner.class);
+        this.threadRunner.setup();
+    }
+
+    /// Closes the thread runner and the context.
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.threadRunner.close();
+        this.context.close();
+    }
+
+    /// Submits the tasks and waits for all of them to complete.
+    ///
+    /// @throws java.lang.InterruptedException  When interrupted while waiting
+    @Benchmark
+    public void submitToCompletion() throws InterruptedException {
+        final ExecutorService executorService = this.threadRunner.getExecutorService();
+        final CountDownLatch latch = new CountDownLatch(this.tasks);
+
+        for (int i = 0; i < this.tasks; i++) {
+            executorService.execute(latch::countDown);
+        }
+
+        latch.await();
+    }
+}
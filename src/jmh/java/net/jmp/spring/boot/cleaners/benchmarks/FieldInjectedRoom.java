@@ -0,0 +1,58 @@
+package net.jmp.spring.boot.cleaners.benchmarks;
+
+/*
+ * (#)FieldInjectedRoom.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import net.jmp.spring.boot.cleaners.components.ResourceCleaner;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+/// A prototype that has its resource cleaner injected
+/// into a field, as the room did before it was created
+/// through the resource factory. It is the baseline of
+/// the prototype creation benchmark.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+public final class FieldInjectedRoom {
+    /// The resource cleaner.
+    @Autowired
+    private ResourceCleaner resourceCleaner;
+
+    /// The default constructor.
+    public FieldInjectedRoom() {
+        super();
+    }
+
+    /// Return the resource cleaner.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.components.ResourceCleaner
+    public ResourceCleaner getResourceCleaner() {
+        return this.resourceCleaner;
+    }
+}
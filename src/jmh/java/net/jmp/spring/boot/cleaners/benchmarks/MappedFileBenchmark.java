@@ -0,0 +1,151 @@
+package net.jmp.spring.boot.cleaners.benchmarks;
+
+/*
+ * (#)MappedFileBenchmark.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.spring.boot.cleaners.classes.MappedFileResource;
+
+import org.openjdk.jmh.annotations.*;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import org.springframework.util.unit.DataSize;
+
+/// Compares counting the lines of a file through a memory
+/// mapping, read in place, with reading it through a heap
+/// input stream into a reused byte array. Both include the
+/// cost of opening and releasing the file.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MappedFileBenchmark {
+    /// The size of the input stream read buffer.
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    /// The size of the file.
+    @Param({"1MB", "256MB"})
+    public String fileSize;
+
+    /// The application context.
+    private ConfigurableApplicationContext context;
+
+    /// The file.
+    private Path file;
+
+    /// The input stream read buffer.
+    private byte[] readBuffer;
+
+    /// The default constructor.
+    public MappedFileBenchmark() {
+        super();
+    }
+
+    /// Starts the context and writes a file of random
+    /// letters in which each byte is a line feed with
+    /// a probability of one in one hundred, so the line
+    /// lengths are geometric, averaging one hundred bytes.
+    ///
+    /// @throws java.io.IOException When the file cannot be written
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.context = BenchmarkContext.start();
+        this.file = Files.createTempFile("mapped-file-benchmark-", ".txt");
+        this.readBuffer = new byte[READ_BUFFER_SIZE];
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final byte[] chunk = new byte[READ_BUFFER_SIZE];
+
+        try (final OutputStream outputStream = Files.newOutputStream(this.file)) {
+            for (long remaining = DataSize.parse(this.fileSize).toBytes(); remaining > 0; remaining -= chunk.length) {
+                for (int i = 0; i < chunk.length; i++) {
+                    chunk[i] = random.nextInt(100) == 0 ? (byte) '\n' : (byte) ('a' + random.nextInt(26));
+                }
+
+                outputStream.write(chunk, 0, (int) Math.min(chunk.length, remaining));
+            }
+        }
+    }
+
+    /// Deletes the file and closes the context.
+    ///
+    /// @throws java.io.IOException When the file cannot be deleted
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.file);
+
+        this.context.close();
+    }
+
+    /// Counts the lines through a memory mapping.
+    ///
+    /// @return long
+    @Benchmark
+    public long mapped() {
+        try (final MappedFileResource mappedFile = this.context.getBean(MappedFileResource.class)) {
+            mappedFile.setup(this.file);
+
+            return mappedFile.count((byte) '\n');
+        }
+    }
+
+    /// Counts the lines through a heap input stream.
+    ///
+    /// @return long
+    /// @throws java.io.IOException When the file cannot be read
+    @Benchmark
+    public long inputStream() throws IOException {
+        long count = 0;
+
+        try (final InputStream inputStream = Files.newInputStream(this.file)) {
+            int read;
+
+            while ((read = inputStream.read(this.readBuffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    if (this.readBuffer[i] == '\n') {
+                        ++count;
+                    }
+                }
+            }
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,154 @@
+package net.jmp.spring.boot.cleaners.benchmarks;
+
+/*
+ * (#)PrototypeCreationBenchmark.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.spring.boot.cleaners.classes.Person;
+import net.jmp.spring.boot.cleaners.classes.Room;
+import net.jmp.spring.boot.cleaners.classes.ThreadRunner;
+
+import net.jmp.spring.boot.cleaners.components.ResourceFactory;
+
+import org.openjdk.jmh.annotations.*;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+/// Compares the per-instance cost of creating the prototype
+/// objects through an application context lookup, through a
+/// pre-resolved object provider, and through the resource
+/// factory. The baseline is a prototype whose dependency is
+/// injected into an autowired field, as the room's was before
+/// the resource factory. Run with the gc profiler to compare
+/// allocation.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PrototypeCreationBenchmark {
+    /// The application context.
+    private ConfigurableApplicationContext context;
+
+    /// The room provider.
+    private ObjectProvider<Room> roomProvider;
+
+    /// The resource factory.
+    private ResourceFactory resourceFactory;
+
+    /// The default constructor.
+    public PrototypeCreationBenchmark() {
+        super();
+    }
+
+    /// Starts the context and resolves the creation paths.
+    @Setup(Level.Trial)
+    public void setup() {
+        this.context = BenchmarkContext.start(context ->
+                context.registerBean(FieldInjectedRoom.class,
+                        definition -> definition.setScope(BeanDefinition.SCOPE_PROTOTYPE)));
+        this.roomProvider = this.context.getBeanProvider(Room.class);
+        this.resourceFactory = this.context.getBean(ResourceFactory.class);
+    }
+
+    /// Closes the context.
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    /// A field-injected room from the application context.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.benchmarks.FieldInjectedRoom
+    @Benchmark
+    public FieldInjectedRoom fieldInjectedRoomFromContext() {
+        return this.context.getBean(FieldInjectedRoom.class);
+    }
+
+    /// A room from the application context.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.classes.Room
+    @Benchmark
+    public Room roomFromContext() {
+        return this.context.getBean(Room.class);
+    }
+
+    /// A room from the object provider.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.classes.Room
+    @Benchmark
+    public Room roomFromProvider() {
+        return this.roomProvider.getObject();
+    }
+
+    /// A room from the resource factory.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.classes.Room
+    @Benchmark
+    public Room roomFromFactory() {
+        return this.resourceFactory.newRoom();
+    }
+
+    /// A thread runner from the application context.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.classes.ThreadRunner
+    @Benchmark
+    public ThreadRunner threadRunnerFromContext() {
+        return this.context.getBean(ThreadRunner.class);
+    }
+
+    /// A thread runner from the resource factory.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.classes.ThreadRunner
+    @Benchmark
+    public ThreadRunner threadRunnerFromFactory() {
+        return this.resourceFactory.newThreadRunner();
+    }
+
+    /// A person from the application context.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.classes.Person
+    @Benchmark
+    public Person personFromContext() {
+        return this.context.getBean(Person.class);
+    }
+
+    /// A person from the resource factory.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.classes.Person
+    @Benchmark
+    public Person personFromFactory() {
+        return this.resourceFactory.newPerson();
+    }
+}
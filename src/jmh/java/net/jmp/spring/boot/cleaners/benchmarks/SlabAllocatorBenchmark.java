@@ -0,0 +1,121 @@
+package net.jmp.spring.boot.cleaners.benchmarks;
+
+/*
+ * (#)SlabAllocatorBenchmark.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.spring.boot.cleaners.components.PooledBuffer;
+import net.jmp.spring.boot.cleaners.components.SlabAllocator;
+
+import org.openjdk.jmh.annotations.*;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+/// Compares a buffer from the slab allocator, which includes
+/// the cleaner registration, with a buffer allocated and freed
+/// through a confined arena and through a shared arena. Each
+/// buffer is filled once so that the memory is touched.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SlabAllocatorBenchmark {
+    /// The size of each buffer in bytes.
+    @Param({"256", "4096", "65536"})
+    public long bufferSize;
+
+    /// The application context.
+    private ConfigurableApplicationContext context;
+
+    /// The slab allocator.
+    private SlabAllocator slabAllocator;
+
+    /// The default constructor.
+    public SlabAllocatorBenchmark() {
+        super();
+    }
+
+    /// Starts the context.
+    @Setup(Level.Trial)
+    public void setup() {
+        this.context = BenchmarkContext.start();
+        this.slabAllocator = this.context.getBean(SlabAllocator.class);
+    }
+
+    /// Closes the context.
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    /// A buffer from the slab allocator.
+    ///
+    /// @return long
+    @Benchmark
+    public long slab() {
+        try (final PooledBuffer buffer = this.slabAllocator.allocate(this.bufferSize)) {
+            return fill(buffer.getSegment());
+        }
+    }
+
+    /// A buffer from a confined arena.
+    ///
+    /// @return long
+    @Benchmark
+    public long confinedArena() {
+        try (final Arena arena = Arena.ofConfined()) {
+            return fill(arena.allocate(this.bufferSize));
+        }
+    }
+
+    /// A buffer from a shared arena.
+    ///
+    /// @return long
+    @Benchmark
+    public long sharedArena() {
+        try (final Arena arena = Arena.ofShared()) {
+            return fill(arena.allocate(this.bufferSize));
+        }
+    }
+
+    /// Fills a segment and returns its size.
+    ///
+    /// @param  segment java.lang.foreign.MemorySegment
+    /// @return         long
+    private static long fill(final MemorySegment segment) {
+        segment.fill((byte) 1);
+
+        return segment.byteSize();
+    }
+}
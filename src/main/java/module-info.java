@@ -1,8 +1,9 @@
 /*
+ * (#)module-info.java  0.3.0   10/17/2026
  * (#)module-info.java  0.2.0   01/16/2025
  * (#)module-info.java  0.1.0   01/15/2025
  *
- * @version 0.2.0
+ * @version 0.3.0
  *
  * MIT License
  *
@@ -31,6 +32,7 @@
 ///
 /// @since 0.1.0
 module Spring.Boot.Cleaners.main {
+    requires java.management;
     requires logging.utilities;
     requires org.slf4j;
     requires spring.beans;
@@ -44,6 +46,6 @@ module Spring.Boot.Cleaners.main {
     opens net.jmp.spring.boot.cleaners.components to spring.core;
 
     exports net.jmp.spring.boot.cleaners to spring.beans, spring.context;
-    exports net.jmp.spring.boot.cleaners.components to spring.beans;
-    exports net.jmp.spring.boot.cleaners.services to spring.beans, spring.core;
+    exports net.jmp.spring.boot.cleaners.components to java.management, spring.beans;
+    exports net.jmp.spring.boot.cleaners.services to spring.beans, spring.context, spring.core;
 }
\ No newline at end of file
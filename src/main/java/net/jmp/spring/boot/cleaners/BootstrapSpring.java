@@ -1,6 +1,7 @@
 package net.jmp.spring.boot.cleaners;
 
 /*
+ * (#)BootstrapSpring.java	0.3.0   10/17/2026
  * (#)BootstrapSpring.java	0.2.0   01/16/2025
  * (#)BootstrapSpring.java	0.1.0   01/15/2025
  *
@@ -33,14 +34,14 @@ import org.springframework.boot.SpringApplication;
 
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
-import org.springframework.context.annotation.ComponentScan;
-
-/// The bootstrap Spring Boot application class.
+/// The bootstrap Spring Boot application class. The
+/// application annotation scans this package and its
+/// subpackages, or reads the component index when the
+/// build has generated one.
 ///
-/// @version    0.2.0
+/// @version    0.3.0
 /// @since      0.1.0
 @SpringBootApplication
-@ComponentScan({ "net.jmp.spring.boot.cleaners", "net.jmp.spring.boot.cleaners.components" })
 public class BootstrapSpring {
     /// The default constructor.
     public BootstrapSpring() {
@@ -48,11 +49,15 @@ public class BootstrapSpring {
     }
 
     ///
-    /// This calls {@link SpringApplication#run(Class, String[])}
-    /// to start the application.
+    /// This calls {@link SpringApplication#run(String[])}
+    /// to start the application, timing the refresh
+    /// of its context.
     ///
     /// @param	args	java.lang.String[]
     public static void main(final String[] args) {
-        SpringApplication.run(BootstrapSpring.class, args);
+        final SpringApplication application = new SpringApplication(BootstrapSpring.class);
+
+        application.addListeners(new ContextRefreshTimer());
+        application.run(args);
     }
 }
@@ -0,0 +1,67 @@
+package net.jmp.spring.boot.cleaners;
+
+/*
+ * (#)CleanersRuntimeHints.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import net.jmp.spring.boot.cleaners.classes.ManagedResource;
+
+import net.jmp.spring.boot.cleaners.components.CleanupMetrics;
+import net.jmp.spring.boot.cleaners.components.CleanupMetricsMBean;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/// The reachability metadata that Spring AOT cannot infer
+/// from the bean definitions, contributed to a native image.
+/// The cleanup metrics are introspected reflectively when
+/// they are registered as standard MBeans, and the status
+/// word of a managed resource is looked up as a var handle.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+public class CleanersRuntimeHints implements RuntimeHintsRegistrar {
+    /// The default constructor.
+    public CleanersRuntimeHints() {
+        super();
+    }
+
+    /// Registers the hints.
+    ///
+    /// @param  hints       org.springframework.aot.hint.RuntimeHints
+    /// @param  classLoader java.lang.ClassLoader
+    @Override
+    public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+        hints.reflection()
+                .registerType(CleanupMetricsMBean.class, MemberCategory.INVOKE_PUBLIC_METHODS)
+                .registerType(CleanupMetrics.class,
+                        MemberCategory.INVOKE_PUBLIC_METHODS,
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                .registerType(ManagedResource.class, MemberCategory.DECLARED_FIELDS);
+    }
+}
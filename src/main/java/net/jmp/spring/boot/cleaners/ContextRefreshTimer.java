@@ -0,0 +1,97 @@
+package net.jmp.spring.boot.cleaners;
+
+/*
+ * (#)ContextRefreshTimer.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.boot.context.event.ApplicationPreparedEvent;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+
+import org.springframework.context.event.ContextRefreshedEvent;
+
+import org.springframework.core.SpringProperties;
+
+import org.springframework.core.env.Environment;
+
+/// Logs the time the application context takes to
+/// refresh, with the startup mode: whether beans are
+/// initialized lazily and whether the components are
+/// found from the precomputed index rather than by
+/// scanning the classpath. It is registered with the
+/// application before the context exists, so it is
+/// not a bean.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+public class ContextRefreshTimer implements ApplicationListener<ApplicationEvent> {
+    /// The location of the component index generated by spring-context-indexer.
+    private static final String COMPONENT_INDEX = "META-INF/spring.components";
+
+    /// The property that tells Spring to ignore the component index.
+    private static final String IGNORE_INDEX_PROPERTY = "spring.index.ignore";
+
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The time the refresh started in nanoseconds.
+    private long refreshStarted;
+
+    /// The default constructor.
+    public ContextRefreshTimer() {
+        super();
+    }
+
+    /// Handles an application event.
+    ///
+    /// @param  event   org.springframework.context.ApplicationEvent
+    @Override
+    public void onApplicationEvent(final ApplicationEvent event) {
+        switch (event) {
+            case ApplicationPreparedEvent _ -> this.refreshStarted = System.nanoTime();
+            case ContextRefreshedEvent refreshed when this.refreshStarted != 0 -> {
+                final long millis = (System.nanoTime() - this.refreshStarted) / 1_000_000;
+                final Environment environment = refreshed.getApplicationContext().getEnvironment();
+                final boolean lazy = environment.getProperty("spring.main.lazy-initialization", Boolean.class, false);
+                final boolean indexed = !SpringProperties.getFlag(IGNORE_INDEX_PROPERTY) &&
+                        this.getClass().getClassLoader().getResource(COMPONENT_INDEX) != null;
+
+                this.logger.info("The context was refreshed in {} ms (lazy initialization: {}, component index: {})",
+                        millis,
+                        lazy,
+                        indexed);
+            }
+            default -> {
+                // Other events are not timed
+            }
+        }
+    }
+}
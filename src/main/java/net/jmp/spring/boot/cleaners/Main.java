@@ -1,6 +1,7 @@
 package net.jmp.spring.boot.cleaners;
 
 /*
+ * (#)Main.java 0.3.0   10/17/2026
  * (#)Main.java 0.2.0   01/15/2025
  * (#)Main.java 0.1.0   01/15/2025
  *
@@ -29,9 +30,18 @@ package net.jmp.spring.boot.cleaners;
  * SOFTWARE.
  */
 
+import java.time.Duration;
+
+import java.util.List;
+
 import net.jmp.spring.boot.cleaners.classes.Person;
+import net.jmp.spring.boot.cleaners.classes.ServiceOutcome;
+
+import net.jmp.spring.boot.cleaners.components.ReclamationAssist;
+import net.jmp.spring.boot.cleaners.components.ResourceFactory;
 
-import net.jmp.spring.boot.cleaners.services.*;
+import net.jmp.spring.boot.cleaners.services.ServiceRegistry;
+import net.jmp.spring.boot.cleaners.services.ServiceScheduler;
 
 import static net.jmp.util.logging.LoggerUtils.entry;
 import static net.jmp.util.logging.LoggerUtils.exit;
@@ -39,53 +49,84 @@ import static net.jmp.util.logging.LoggerUtils.exit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import org.springframework.context.ApplicationContext;
+import org.springframework.beans.factory.ObjectProvider;
+
+import org.springframework.beans.factory.annotation.Value;
 
 import org.springframework.core.env.Environment;
 
 import org.springframework.stereotype.Component;
 
-/// The main application class.
+/// The main application class. It runs the services once
+/// through the service registry, optionally flushing the
+/// pending cleanup actions so that the cleanup metrics
+/// logged on exit account for every abandoned resource,
+/// or, in the daemon mode, starts the service scheduler,
+/// which keeps running them on their schedules until the
+/// application is shut down and flushes on shutdown.
+/// The service runners are looked up by name, so with lazy
+/// initialization a service runner that is not selected,
+/// and the beans that only it depends on, are never created.
 ///
-/// @version    0.2.0
+/// @version    0.3.0
 /// @since      0.1.0
 @Component
 public class Main implements Runnable {
     /// The logger.
     private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
-    /// The application context.
-    private final ApplicationContext applicationContext;
+    /// The resource factory.
+    private final ResourceFactory resourceFactory;
 
     /// The environment.
     private final Environment environment;
 
-    /// The room service.
-    private final RoomService roomService;
+    /// The service registry.
+    private final ServiceRegistry serviceRegistry;
+
+    /// The service scheduler, which is only created in the daemon mode.
+    private final ObjectProvider<ServiceScheduler> serviceScheduler;
+
+    /// The reclamation assist.
+    private final ReclamationAssist reclamationAssist;
 
-    /// The thread runner service.
-    private final ThreadRunnerService threadRunnerService;
+    /// The time the pending cleanup actions are given after the services run once, or zero not to flush.
+    private final Duration flushTimeout;
+
+    /// True in the daemon mode.
+    private final boolean daemon;
 
     /// The constructor.
     ///
-    /// @param  applicationContext  org.springframework.context.ApplicationContext
+    /// @param  resourceFactory     net.jmp.spring.boot.cleaners.components.ResourceFactory
     /// @param  environment         org.springframework.core.env.Environment
-    /// @param  roomService         net.jmp.spring.boot.cleaners.services.RoomService
-    /// @param  threadRunnerService net.jmp.spring.boot.cleaners.services.ThreadRunnerService
-    public Main(final ApplicationContext applicationContext,
+    /// @param  serviceRegistry     net.jmp.spring.boot.cleaners.services.ServiceRegistry
+    /// @param  serviceScheduler    org.springframework.beans.factory.ObjectProvider<net.jmp.spring.boot.cleaners.services.ServiceScheduler>
+    /// @param  reclamationAssist   net.jmp.spring.boot.cleaners.components.ReclamationAssist
+    /// @param  flushTimeout        java.time.Duration
+    /// @param  daemon              boolean
+    public Main(final ResourceFactory resourceFactory,
                 final Environment environment,
-                final RoomService roomService,
-                final ThreadRunnerService threadRunnerService) {
+                final ServiceRegistry serviceRegistry,
+                final ObjectProvider<ServiceScheduler> serviceScheduler,
+                final ReclamationAssist reclamationAssist,
+                @Value("${cleaners.reclamation-assist.flush-timeout:0s}") final Duration flushTimeout,
+                @Value("${cleaners.daemon.enabled:false}") final boolean daemon) {
         super();
 
-        this.applicationContext = applicationContext;
+        this.resourceFactory = resourceFactory;
         this.environment = environment;
-        this.roomService = roomService;
-        this.threadRunnerService = threadRunnerService;
+        this.serviceRegistry = serviceRegistry;
+        this.serviceScheduler = serviceScheduler;
+        this.reclamationAssist = reclamationAssist;
+        this.flushTimeout = flushTimeout;
+        this.daemon = daemon;
     }
 
     ///
     /// The run method.
+    ///
+    /// @throws java.lang.IllegalStateException When a service does not succeed
     @Override
     public void run() {
         if (this.logger.isTraceEnabled()) {
@@ -100,13 +141,14 @@ public class Main implements Runnable {
 
         // Run the services
 
-        this.roomService.runService();
-        this.threadRunnerService.runService();
+        final List<ServiceOutcome> outcomes = this.daemon
+                ? this.startServiceScheduler()
+                : this.runServices();
 
-        // Work with prototype-scoped beans
+        // Work with prototype objects
 
-        final Person john = this.applicationContext.getBean(Person.class);
-        final Person jane = this.applicationContext.getBean(Person.class);
+        final Person john = this.resourceFactory.newPerson();
+        final Person jane = this.resourceFactory.newPerson();
 
         john.setAge(19);
         john.setName("John");
@@ -116,8 +158,40 @@ public class Main implements Runnable {
         this.logger.info("{} is {} years old", john.getName(), john.getAge());
         this.logger.info("{} is {} years old", jane.getName(), jane.getAge());
 
+        if (!outcomes.stream().allMatch(ServiceOutcome::isSuccessful)) {
+            throw new IllegalStateException("Not every service succeeded");
+        }
+
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exit());
         }
     }
+
+    /// Runs the services once and then, when a
+    /// flush timeout is set, flushes the pending
+    /// cleanup actions. The flush requests a
+    /// collection, so it is off by default.
+    ///
+    /// @return java.util.List<net.jmp.spring.boot.cleaners.classes.ServiceOutcome>
+    private List<ServiceOutcome> runServices() {
+        final List<ServiceOutcome> outcomes = this.serviceRegistry.runServices();
+
+        if (this.flushTimeout.isPositive()) {
+            this.reclamationAssist.flush(this.flushTimeout);
+        }
+
+        return outcomes;
+    }
+
+    /// Starts the service scheduler. The services are
+    /// run on its threads, so there are no outcomes yet.
+    ///
+    /// @return java.util.List<net.jmp.spring.boot.cleaners.classes.ServiceOutcome>
+    private List<ServiceOutcome> startServiceScheduler() {
+        this.serviceScheduler.getObject().start();
+
+        this.logger.info("Running in the daemon mode until the application is shut down");
+
+        return List.of();
+    }
 }
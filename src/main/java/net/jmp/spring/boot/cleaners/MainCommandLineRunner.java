@@ -1,6 +1,7 @@
 package net.jmp.spring.boot.cleaners;
 
 /*
+ * (#)MainCommandLineRunner.java    0.3.0   10/17/2026
  * (#)MainCommandLineRunner.java    0.1.0   01/15/2025
  *
  * @author    Jonathan Parker
@@ -28,6 +29,8 @@ package net.jmp.spring.boot.cleaners;
  * SOFTWARE.
  */
 
+import java.lang.management.ManagementFactory;
+
 import static net.jmp.util.logging.LoggerUtils.entry;
 import static net.jmp.util.logging.LoggerUtils.exit;
 
@@ -43,8 +46,10 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 /// The command line runner class that runs the main class.
+/// The time from the start of the JVM to the run of the
+/// main class is logged, so startup modes can be compared.
 ///
-/// @version 0.1.0
+/// @version 0.3.0
 /// @since   0.1.0
 @Component
 @Profile("!test")
@@ -73,7 +78,12 @@ public class MainCommandLineRunner implements CommandLineRunner {
             this.logger.trace(entry());
         }
 
-        this.context.getBean(Main.class).run();
+        final Main main = this.context.getBean(Main.class);
+
+        this.logger.info("Main.run() was reached {} ms after the JVM started",
+                System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime());
+
+        main.run();
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exit());
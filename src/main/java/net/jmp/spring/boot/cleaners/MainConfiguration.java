@@ -1,6 +1,7 @@
 package net.jmp.spring.boot.cleaners;
 
 /*
+ * (#)MainConfiguration.java    0.3.0   10/17/2026
  * (#)MainConfiguration.java    0.2.0   01/16/2025
  *
  * @author   Jonathan Parker
@@ -30,51 +31,111 @@ package net.jmp.spring.boot.cleaners;
 
 import net.jmp.spring.boot.cleaners.classes.*;
 
+import net.jmp.spring.boot.cleaners.components.ExecutorPool;
+import net.jmp.spring.boot.cleaners.components.ResourceCleaner;
+import net.jmp.spring.boot.cleaners.components.ResourceFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.context.annotation.Scope;
 
-/// The main configuration class.
+/// The main configuration class. It imports the
+/// runtime hints a native image of the application
+/// needs beyond those Spring AOT infers.
 ///
-/// @version    0.2.0
+/// @version    0.3.0
 /// @since      0.2.0
 @Configuration
+@ImportRuntimeHints(CleanersRuntimeHints.class)
 public class MainConfiguration {
     /// The default constructor.
     MainConfiguration() {
         super();
     }
 
+    /// The resource factory bean. It is the
+    /// low-overhead path for creating the
+    /// prototype objects on hot paths, and
+    /// the prototype beans delegate to it.
+    ///
+    /// @param  resourceCleaner     net.jmp.spring.boot.cleaners.components.ResourceCleaner
+    /// @param  executorPool        net.jmp.spring.boot.cleaners.components.ExecutorPool
+    /// @param  executionMode       net.jmp.spring.boot.cleaners.classes.ExecutionMode
+    /// @param  executorStrategy    net.jmp.spring.boot.cleaners.classes.ExecutorStrategy
+    /// @param  parallelism         int
+    /// @return                     net.jmp.spring.boot.cleaners.components.ResourceFactory
+    /// @since                      0.3.0
+    @Bean
+    ResourceFactory resourceFactory(final ResourceCleaner resourceCleaner,
+                                    final ExecutorPool executorPool,
+                                    @Value("${cleaners.thread-runner.execution-mode:platform}") final ExecutionMode executionMode,
+                                    @Value("${cleaners.thread-runner.executor-strategy:fixed}") final ExecutorStrategy executorStrategy,
+                                    @Value("${cleaners.thread-runner.parallelism:0}") final int parallelism) {
+        return new ResourceFactory(resourceCleaner, executorPool, executionMode, executorStrategy, parallelism);
+    }
+
     /// The person bean. The prototype
     /// scope instructs Spring to make
     /// a new instance for each request.
     ///
-    /// @return net.jmp.spring.boot.cleaners.classes.Person
+    /// @param  resourceFactory net.jmp.spring.boot.cleaners.components.ResourceFactory
+    /// @return                 net.jmp.spring.boot.cleaners.classes.Person
     @Bean
     @Scope("prototype")
-    Person person() {
-        return new Person();
+    Person person(final ResourceFactory resourceFactory) {
+        return resourceFactory.newPerson();
     }
 
     /// The room bean. The prototype
     /// scope instructs Spring to make
     /// a new instance for each request.
     ///
-    /// @return net.jmp.spring.boot.cleaners.classes.Room
+    /// @param  resourceFactory net.jmp.spring.boot.cleaners.components.ResourceFactory
+    /// @return                 net.jmp.spring.boot.cleaners.classes.Room
     @Bean
     @Scope("prototype")
-    Room room() {
-        return new Room();
+    Room room(final ResourceFactory resourceFactory) {
+        return resourceFactory.newRoom();
     }
 
-    /// The room bean. The prototype
+    /// The mapped file resource bean. The prototype
+    /// scope instructs Spring to make
+    /// a new instance for each request.
+    ///
+    /// @param  resourceFactory net.jmp.spring.boot.cleaners.components.ResourceFactory
+    /// @return                 net.jmp.spring.boot.cleaners.classes.MappedFileResource
+    /// @since                  0.3.0
+    @Bean
+    @Scope("prototype")
+    MappedFileResource mappedFileResource(final ResourceFactory resourceFactory) {
+        return resourceFactory.newMappedFileResource();
+    }
+
+    /// The native buffer bean. The prototype
+    /// scope instructs Spring to make
+    /// a new instance for each request.
+    ///
+    /// @param  resourceFactory net.jmp.spring.boot.cleaners.components.ResourceFactory
+    /// @return                 net.jmp.spring.boot.cleaners.classes.NativeBuffer
+    /// @since                  0.3.0
+    @Bean
+    @Scope("prototype")
+    NativeBuffer nativeBuffer(final ResourceFactory resourceFactory) {
+        return resourceFactory.newNativeBuffer();
+    }
+
+    /// The thread runner bean. The prototype
     /// scope instructs Spring to make
     /// a new instance for each request.
     ///
-    /// @return net.jmp.spring.boot.cleaners.classes.ThreadRunner
+    /// @param  resourceFactory net.jmp.spring.boot.cleaners.components.ResourceFactory
+    /// @return                 net.jmp.spring.boot.cleaners.classes.ThreadRunner
     @Bean
     @Scope("prototype")
-    ThreadRunner threadRunner() {
-        return new ThreadRunner();
+    ThreadRunner threadRunner(final ResourceFactory resourceFactory) {
+        return resourceFactory.newThreadRunner();
     }
 }
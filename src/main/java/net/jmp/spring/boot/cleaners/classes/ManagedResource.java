@@ -0,0 +1,172 @@
+package net.jmp.spring.boot.cleaners.classes;
+
+/*
+ * (#)ManagedResource.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import java.lang.ref.Cleaner;
+
+import net.jmp.spring.boot.cleaners.components.ResourceCleaner;
+
+/// The base class of the resources whose cleanup is
+/// registered with the resource cleaner. A subclass
+/// supplies its state, a static class that must never
+/// refer to the resource, when it is opened; the base
+/// class registers the state and cleans it on close.
+///
+/// A single status word, updated through a var handle,
+/// makes close idempotent and thread-safe: only the
+/// close that moves the status from open to closed
+/// reaches the cleanable, and isClosed is one volatile
+/// read. A resource may be opened again once closed.
+///
+/// @param  <S> The type of the state
+/// @version    0.3.0
+/// @since      0.3.0
+public abstract class ManagedResource<S extends Runnable> implements AutoCloseable {
+    /// The status of a resource that has not been opened.
+    private static final int NEW = 0;
+
+    /// The status of an open resource.
+    private static final int OPEN = 1;
+
+    /// The status of a closed resource.
+    private static final int CLOSED = 2;
+
+    /// The var handle of the status.
+    private static final VarHandle STATUS;
+
+    static {
+        try {
+            STATUS = MethodHandles.lookup().findVarHandle(ManagedResource.class, "status", int.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /// The resource cleaner.
+    private final ResourceCleaner resourceCleaner;
+
+    /// The status; one of new, open or closed.
+    private volatile int status = NEW;
+
+    /// The state that requires cleanup.
+    private S state;
+
+    /// The cleanable. Cleans the state when the resource has become phantom reachable.
+    private Cleaner.Cleanable cleanable;
+
+    /// The constructor.
+    ///
+    /// @param  resourceCleaner net.jmp.spring.boot.cleaners.components.ResourceCleaner
+    protected ManagedResource(final ResourceCleaner resourceCleaner) {
+        super();
+
+        this.resourceCleaner = resourceCleaner;
+    }
+
+    /// Opens the resource with a state
+    /// whose cleanup action is cheap.
+    ///
+    /// @param  state   S
+    /// @throws java.lang.IllegalStateException When the resource is already open
+    protected final void open(final S state) {
+        this.open(state, false);
+    }
+
+    /// Opens the resource with a state whose cleanup
+    /// action is slow, such as an executor shutdown.
+    ///
+    /// @param  state   S
+    /// @throws java.lang.IllegalStateException When the resource is already open
+    protected final void openSlow(final S state) {
+        this.open(state, true);
+    }
+
+    /// Return the state of the last opening,
+    /// or null if the resource was never opened.
+    ///
+    /// @return S
+    protected final S getState() {
+        return this.state;
+    }
+
+    /// Return true when the resource is open.
+    ///
+    /// @return boolean
+    public final boolean isOpen() {
+        return this.status == OPEN;
+    }
+
+    /// Return true when the resource has been
+    /// closed and has not been opened again.
+    ///
+    /// @return boolean
+    public final boolean isClosed() {
+        return this.status == CLOSED;
+    }
+
+    /// Invoked once by the close that cleans the
+    /// state, after the state has been cleaned.
+    protected void onClose() {
+    }
+
+    /// The close method. The state is cleaned by the first
+    /// close after an opening; any other close returns at once.
+    @Override
+    public final void close() {
+        if (STATUS.compareAndSet(this, OPEN, CLOSED)) {
+            this.cleanable.clean();
+            this.onClose();
+        }
+    }
+
+    /// Registers the state and marks the resource open.
+    /// The state and cleanable are written before the
+    /// status, so a close that sees the resource open
+    /// also sees its cleanable.
+    ///
+    /// @param  state   S
+    /// @param  slow    boolean
+    /// @throws java.lang.IllegalStateException When the resource is already open
+    private void open(final S state, final boolean slow) {
+        if (this.status == OPEN) {
+            throw new IllegalStateException("The " + this.getClass().getSimpleName() +
+                    " must be closed before it is opened again");
+        }
+
+        this.state = state;
+        this.cleanable = slow
+                ? this.resourceCleaner.registerSlow(this, state)
+                : this.resourceCleaner.register(this, state);
+
+        STATUS.setRelease(this, OPEN);
+    }
+}
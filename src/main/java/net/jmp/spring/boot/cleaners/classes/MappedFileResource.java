@@ -0,0 +1,222 @@
+package net.jmp.spring.boot.cleaners.classes;
+
+/*
+ * (#)MappedFileResource.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import java.lang.ref.Reference;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import net.jmp.spring.boot.cleaners.components.ResourceCleaner;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// A read-only memory mapping of a file. The file is
+/// mapped into a shared arena, so its contents are read
+/// in place without being copied onto the heap, and a
+/// file of any size, including several gigabytes, can
+/// be mapped whole. Closing the resource unmaps the file
+/// and closes its channel at once; an abandoned resource
+/// is released when it becomes phantom reachable.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+public final class MappedFileResource extends ManagedResource<MappedFileResource.State> {
+    /// A long with every byte set to one.
+    private static final long BYTE_ONES = 0x0101010101010101L;
+
+    /// A long with the low seven bits of every byte set.
+    private static final long LOW_SEVEN_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+    /// The resource(s) that require cleanup.
+    /// This state class must never refer to MappedFileResource.
+    static class State implements Runnable {
+        /// The logger.
+        private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+        /// The path of the file.
+        private final Path path;
+
+        /// The channel the file was mapped through.
+        private final FileChannel channel;
+
+        /// The arena that owns the mapping.
+        private final Arena arena;
+
+        /// The mapping.
+        private final MemorySegment segment;
+
+        /// The constructor. Nothing is left open if the file cannot be mapped.
+        ///
+        /// @param  path    java.nio.file.Path
+        /// @throws         java.io.IOException When the file cannot be opened or mapped
+        private State(final Path path) throws IOException {
+            this.path = path;
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.arena = Arena.ofShared();
+
+            try {
+                this.segment = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, this.channel.size(), this.arena);
+            } catch (final IOException | RuntimeException e) {
+                this.arena.close();
+                this.channel.close();
+
+                throw e;
+            }
+        }
+
+        /// The run method.  This method
+        /// will be invoked at most one
+        /// time by either the close method
+        /// or the cleaner.
+        @Override
+        public void run() {
+            if (this.logger.isTraceEnabled()) {
+                this.logger.trace(entry());
+            }
+
+            this.arena.close();     // Unmaps the file
+
+            try {
+                this.channel.close();
+            } catch (final IOException e) {
+                this.logger.error(catching(e));
+            }
+
+            this.logger.info("The mapping of {} has been released", this.path);
+
+            if (this.logger.isTraceEnabled()) {
+                this.logger.trace(exit());
+            }
+        }
+    }
+
+    /// The constructor.
+    ///
+    /// @param  resourceCleaner net.jmp.spring.boot.cleaners.components.ResourceCleaner
+    public MappedFileResource(final ResourceCleaner resourceCleaner) {
+        super(resourceCleaner);
+    }
+
+    /// The setup method invoked after Spring
+    /// returns a new bean. It maps the file.
+    ///
+    /// @param  path    java.nio.file.Path
+    /// @throws java.lang.IllegalStateException When the resource has already been set up
+    /// @throws java.io.UncheckedIOException    When the file cannot be opened or mapped
+    public void setup(final Path path) {
+        if (this.getState() != null) {
+            throw new IllegalStateException("The mapped file resource has already been set up");
+        }
+
+        final State state;
+
+        try {
+            state = new State(path);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to map " + path, e);
+        }
+
+        this.open(state);
+    }
+
+    /// Return the path of the file.
+    ///
+    /// @return java.nio.file.Path
+    public Path getPath() {
+        return this.getState().path;
+    }
+
+    /// Return the mapping. The segment does not
+    /// keep the resource reachable: the caller
+    /// must keep the resource reachable, and open,
+    /// for as long as the segment is accessed, or
+    /// the cleaner may unmap the file under it.
+    ///
+    /// @return java.lang.foreign.MemorySegment
+    public MemorySegment getSegment() {
+        return this.getState().segment;
+    }
+
+    /// Return the size of the file in bytes.
+    ///
+    /// @return long
+    public long getByteSize() {
+        return this.getState().segment.byteSize();
+    }
+
+    /// Counts the occurrences of a byte value
+    /// by reading the mapping in place, eight
+    /// bytes at a time. The resource is kept
+    /// reachable until the scan is complete.
+    ///
+    /// @param  value   byte
+    /// @return         long
+    public long count(final byte value) {
+        final MemorySegment segment = this.getState().segment;
+        final long size = segment.byteSize();
+        final long words = size & ~(Long.BYTES - 1);
+        final long pattern = (value & 0xFFL) * BYTE_ONES;
+
+        long count = 0;
+        long offset = 0;
+
+        try {
+            for (; offset < words; offset += Long.BYTES) {
+                final long x = segment.get(ValueLayout.JAVA_LONG_UNALIGNED, offset) ^ pattern;
+
+                // Sets the high bit of each byte of x that is zero, exactly
+
+                count += Long.bitCount(~(((x & LOW_SEVEN_BITS) + LOW_SEVEN_BITS) | x | LOW_SEVEN_BITS));
+            }
+
+            for (; offset < size; offset++) {
+                if (segment.get(ValueLayout.JAVA_BYTE, offset) == value) {
+                    ++count;
+                }
+            }
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,138 @@
+package net.jmp.spring.boot.cleaners.classes;
+
+/*
+ * (#)NativeBuffer.java    0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+import net.jmp.spring.boot.cleaners.components.ResourceCleaner;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// A buffer of off-heap memory. The memory is allocated
+/// from a shared arena of its own, so it can be freed by
+/// the cleaner thread as well as by the owner, and is not
+/// counted against the heap. Closing the buffer frees the
+/// memory at once; an abandoned buffer is freed when it
+/// becomes phantom reachable.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+public final class NativeBuffer extends ManagedResource<NativeBuffer.State> {
+    /// The alignment of the memory in bytes.
+    private static final long ALIGNMENT = 64;
+
+    /// The resource(s) that require cleanup.
+    /// This state class must never refer to NativeBuffer.
+    static class State implements Runnable {
+        /// The logger.
+        private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+        /// The arena that owns the memory.
+        private final Arena arena;
+
+        /// The memory.
+        private final MemorySegment segment;
+
+        /// The constructor.
+        ///
+        /// @param  byteSize    long
+        private State(final long byteSize) {
+            this.arena = Arena.ofShared();
+            this.segment = this.arena.allocate(byteSize, ALIGNMENT);
+        }
+
+        /// The run method.  This method
+        /// will be invoked at most one
+        /// time by either the close method
+        /// or the cleaner.
+        @Override
+        public void run() {
+            if (this.logger.isTraceEnabled()) {
+                this.logger.trace(entry());
+            }
+
+            this.arena.close();     // Frees the memory
+
+            this.logger.info("The native buffer of {} bytes has been freed", this.segment.byteSize());
+
+            if (this.logger.isTraceEnabled()) {
+                this.logger.trace(exit());
+            }
+        }
+    }
+
+    /// The constructor.
+    ///
+    /// @param  resourceCleaner net.jmp.spring.boot.cleaners.components.ResourceCleaner
+    public NativeBuffer(final ResourceCleaner resourceCleaner) {
+        super(resourceCleaner);
+    }
+
+    /// The setup method invoked after Spring
+    /// returns a new bean. It allocates the
+    /// memory, which is zeroed.
+    ///
+    /// @param  byteSize    long
+    /// @throws java.lang.IllegalStateException     When the buffer has already been set up
+    /// @throws java.lang.IllegalArgumentException  When the size is negative
+    /// @throws java.lang.OutOfMemoryError          When the memory cannot be allocated
+    public void setup(final long byteSize) {
+        if (this.getState() != null) {
+            throw new IllegalStateException("The native buffer has already been set up");
+        }
+
+        final State state = new State(byteSize);
+
+        this.open(state);
+    }
+
+    /// Return the memory. The segment does not
+    /// keep the buffer reachable: the caller must
+    /// keep the buffer reachable, and open, for as
+    /// long as the segment is accessed, as a try
+    /// with resources does. Otherwise the cleaner
+    /// may free the memory, after which an access
+    /// fails with an illegal state exception.
+    ///
+    /// @return java.lang.foreign.MemorySegment
+    public MemorySegment getSegment() {
+        return this.getState().segment;
+    }
+
+    /// Return the size of the memory in bytes.
+    ///
+    /// @return long
+    public long getByteSize() {
+        return this.getState().segment.byteSize();
+    }
+}
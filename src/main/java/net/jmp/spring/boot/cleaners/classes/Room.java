@@ -1,6 +1,7 @@
 package net.jmp.spring.boot.cleaners.classes;
 
 /*
+ * (#)Room.java  0.3.0   10/17/2026
  * (#)Room.java  0.2.0   01/15/2025
  * (#)Room.java  0.1.0   01/15/2025
  *
@@ -29,41 +30,61 @@ package net.jmp.spring.boot.cleaners.classes;
  * SOFTWARE.
  */
 
-import java.lang.ref.Cleaner;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import net.jmp.spring.boot.cleaners.components.ResourceCleaner;
+import net.jmp.spring.boot.cleaners.components.RoomPool;
 
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import org.springframework.beans.factory.annotation.Autowired;
-
-/// The room class.
+/// The room class. A pooled room has a single owner
+/// at a time: the caller that acquired it from the
+/// pool. Closing the room returns it to the pool and
+/// ends that ownership, so the caller must drop its
+/// reference on close. A pooled room refuses to be
+/// set up again until it is acquired again.
 ///
-/// @version    0.2.0
+/// @version    0.3.0
 /// @since      0.1.0
-public final class Room implements AutoCloseable{
+public final class Room extends ManagedResource<Room.State> {
     /// The resource(s) that require cleanup.
     /// This state class must never refer to Room.
-    private static class State implements Runnable {
+    /// A pooled room reuses its state for each
+    /// use once the previous use has been cleaned.
+    static class State implements Runnable {
         /// The logger.
         private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
         /// The name of the room.
-        private final String name;
+        private String name;
 
         /// The number of junk piles that need to be cleaned up.
         private int numberOfJunkPiles;
 
+        /// True when the cleaning is logged.
+        private boolean logCleaning;
+
         /// The constructor.
         ///
         /// @param  name                java.lang.String
         /// @param  numberOfJunkPiles   int
-        private State(final String name, final int numberOfJunkPiles) {
+        /// @param  logCleaning         boolean
+        private State(final String name, final int numberOfJunkPiles, final boolean logCleaning) {
+            this.reset(name, numberOfJunkPiles, logCleaning);
+        }
+
+        /// Resets the state for a new use.
+        ///
+        /// @param  name                java.lang.String
+        /// @param  numberOfJunkPiles   int
+        /// @param  logCleaning         boolean
+        private void reset(final String name, final int numberOfJunkPiles, final boolean logCleaning) {
             this.name = name;
             this.numberOfJunkPiles = numberOfJunkPiles;
+            this.logCleaning = logCleaning;
         }
 
         /// The run method.  This method
@@ -80,7 +101,9 @@ public final class Room implements AutoCloseable{
 
             this.numberOfJunkPiles = 0;     // The cleaning action
 
-            this.logger.info("{}'s room had {} junk piles and now has been cleaned", this.name, pilesToClean);
+            if (this.logCleaning) {
+                this.logger.info("{}'s room had {} junk piles and now has been cleaned", this.name, pilesToClean);
+            }
 
             if (this.logger.isTraceEnabled()) {
                 this.logger.trace(exit());
@@ -88,19 +111,30 @@ public final class Room implements AutoCloseable{
         }
     }
 
-    /// The resource cleaner.
-    @Autowired
-    private ResourceCleaner resourceCleaner;
+    /// The pool the room is returned to on close, or null.
+    private final RoomPool roomPool;
 
-    /// The state of the room that requires cleanup.
-    private State state;
+    /// True from the acquisition of a pooled
+    /// room from its pool until its setup.
+    private final AtomicBoolean acquired = new AtomicBoolean();
 
-    /// The cleanable. Cleans the room when the room has become phantom reachable.
-    private Cleaner.Cleanable cleanable;
+    /// The constructor.
+    ///
+    /// @param  resourceCleaner net.jmp.spring.boot.cleaners.components.ResourceCleaner
+    /// @since                  0.3.0
+    public Room(final ResourceCleaner resourceCleaner) {
+        this(resourceCleaner, null);
+    }
+
+    /// A constructor for a pooled room.
+    ///
+    /// @param  resourceCleaner net.jmp.spring.boot.cleaners.components.ResourceCleaner
+    /// @param  roomPool        net.jmp.spring.boot.cleaners.components.RoomPool
+    /// @since                  0.3.0
+    public Room(final ResourceCleaner resourceCleaner, final RoomPool roomPool) {
+        super(resourceCleaner);
 
-    /// The default constructor.
-    public Room() {
-        super();
+        this.roomPool = roomPool;
     }
 
     /// The setup method invoked after
@@ -110,27 +144,82 @@ public final class Room implements AutoCloseable{
     /// @param   numberOfJunkPiles  int
     /// @since                      0.2.0
     public void setup(final String name, final int numberOfJunkPiles) {
-        this.state = new State(name, numberOfJunkPiles);
-        this.cleanable = this.resourceCleaner.getCleaner().register(this, this.state);
+        this.setup(name, numberOfJunkPiles, true);
+    }
+
+    /// The setup method invoked after Spring
+    /// returns a new bean. Callers that clean
+    /// rooms in bulk turn off the logging of
+    /// each cleaning and log per batch instead.
+    ///
+    /// Each use is registered with the resource
+    /// cleaner afresh, so the state is cleaned
+    /// exactly once per use. A room must be
+    /// closed before it is set up again, and a
+    /// pooled room must also be acquired again.
+    ///
+    /// @param   name               java.lang.String
+    /// @param   numberOfJunkPiles  int
+    /// @param   logCleaning        boolean
+    /// @throws  java.lang.IllegalStateException    When the room is still in use or a pooled room was not acquired
+    /// @since                      0.3.0
+    public void setup(final String name, final int numberOfJunkPiles, final boolean logCleaning) {
+        if (this.isOpen()) {
+            throw new IllegalStateException("The room must be closed before it is set up again");
+        }
+
+        if (this.roomPool != null && !this.acquired.compareAndSet(true, false)) {
+            throw new IllegalStateException("A pooled room must be acquired from its pool before it is set up");
+        }
+
+        State state = this.getState();
+
+        if (state == null) {
+            state = new State(name, numberOfJunkPiles, logCleaning);
+        } else {
+            state.reset(name, numberOfJunkPiles, logCleaning);
+        }
+
+        this.open(state);
     }
 
     /// Return the number of junk piles.
     ///
     /// @return int
     public int getNumberOfJunkPiles() {
-        return this.state.numberOfJunkPiles;
+        return this.getState().numberOfJunkPiles;
     }
 
     /// Return the name of the room.
     ///
     /// @return java.lang.String
     public String getName() {
-        return this.state.name;
+        return this.getState().name;
+    }
+
+    /// Marks a pooled room as acquired by a new
+    /// owner, which permits one setup. This
+    /// method is invoked by RoomPool.acquire().
+    ///
+    /// @param  roomPool    net.jmp.spring.boot.cleaners.components.RoomPool
+    /// @throws java.lang.IllegalStateException When the room is not from the pool or is already acquired
+    /// @since              0.3.0
+    public void acquire(final RoomPool roomPool) {
+        if (roomPool == null || roomPool != this.roomPool) {
+            throw new IllegalStateException("The room was not created by the pool");
+        }
+
+        if (!this.acquired.compareAndSet(false, true)) {
+            throw new IllegalStateException("The room has already been acquired");
+        }
     }
 
-    /// The close method.
+    /// A pooled room is returned to its
+    /// pool once it has been cleaned.
     @Override
-    public void close() {
-        this.cleanable.clean();
+    protected void onClose() {
+        if (this.roomPool != null) {
+            this.roomPool.release(this);
+        }
     }
 }
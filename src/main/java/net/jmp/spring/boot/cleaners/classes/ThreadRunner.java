@@ -1,6 +1,7 @@
 package net.jmp.spring.boot.cleaners.classes;
 
 /*
+ * (#)ThreadRunner.java 0.3.0   10/17/2026
  * (#)ThreadRunner.java 0.2.0   01/15/2025
  *
  * @author   Jonathan Parker
@@ -28,15 +29,18 @@ package net.jmp.spring.boot.cleaners.classes;
  * SOFTWARE.
  */
 
-import java.lang.ref.Cleaner;
+import java.time.Duration;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import java.util.concurrent.*;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
+import net.jmp.spring.boot.cleaners.components.ExecutorPool;
 import net.jmp.spring.boot.cleaners.components.ResourceCleaner;
 
 import static net.jmp.util.logging.LoggerUtils.*;
@@ -44,69 +48,82 @@ import static net.jmp.util.logging.LoggerUtils.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import org.springframework.beans.factory.annotation.Autowired;
-
 /// The thread runner class.
 ///
-/// @version    0.2.0
+/// @version    0.3.0
 /// @since      0.2.0
-public final class ThreadRunner implements AutoCloseable {
-    /// The default number of threads.
-    private static final int DEFAULT_NUMBER_OF_THREADS = Runtime.getRuntime().availableProcessors();
-
+public final class ThreadRunner extends ManagedResource<ThreadRunner.State> {
     /// The logger.
     private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
     /// The resource(s) that require cleanup.
     /// This state class must never refer to ThreadRunner.
-    private static class State implements Runnable {
+    static class State implements Runnable {
         /// The logger.
         private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
-        /// The executor service which must be closed.
+        /// The executor pool the executor service was leased from.
+        private final ExecutorPool executorPool;
+
+        /// The execution mode the executor service was leased for.
+        private final ExecutionMode executionMode;
+
+        /// The executor strategy the executor service was leased for.
+        private final ExecutorStrategy executorStrategy;
+
+        /// The executor service which must be returned or closed.
         private final ExecutorService executorService;
 
+        /// Completed when the executor service has been returned or terminated.
+        private final CompletableFuture<Void> terminated = new CompletableFuture<>();
+
         /// The constructor.
         ///
-        /// @param  executorService java.util.concurrent.ExecutorService
-        private State(final ExecutorService executorService) {
+        /// @param  executorPool        net.jmp.spring.boot.cleaners.components.ExecutorPool
+        /// @param  executionMode       net.jmp.spring.boot.cleaners.classes.ExecutionMode
+        /// @param  executorStrategy    net.jmp.spring.boot.cleaners.classes.ExecutorStrategy
+        /// @param  executorService     java.util.concurrent.ExecutorService
+        private State(final ExecutorPool executorPool,
+                      final ExecutionMode executionMode,
+                      final ExecutorStrategy executorStrategy,
+                      final ExecutorService executorService) {
+            this.executorPool = executorPool;
+            this.executionMode = executionMode;
+            this.executorStrategy = executorStrategy;
             this.executorService = executorService;
         }
 
         /// The run method.  This method
         /// will be invoked at most one
         /// time by either the close method
-        /// or the cleaner.
+        /// or the cleaner. The executor
+        /// service is returned to the pool
+        /// and only shut down if the pool
+        /// does not retain it. The method
+        /// never waits for termination.
         @Override
         public void run() {
             if (this.logger.isTraceEnabled()) {
                 this.logger.trace(entry());
             }
 
-            if (!this.executorService.isShutdown()) {
-                this.executorService.shutdown();
-
-                this.logger.info("The executor service has been shut down");
-
-                if (this.executorService.isTerminated()) {
-                    this.logger.info("The executor service has already been terminated");
-                } else {
-                    // Await termination must be done after shutdown
-
-                    try {
-                        final boolean result = this.executorService.awaitTermination(2, TimeUnit.SECONDS);
-
-                        if (result) {
-                            this.logger.info("The executor service has been terminated");
-                        } else {
-                            this.logger.warn("The executor service has not been terminated");
-                        }
-                    } catch (InterruptedException _) {
-                        Thread.currentThread().interrupt();
+            if (this.executorPool.release(this.executionMode, this.executorStrategy, this.executorService)) {
+                this.logger.info("The executor service has been returned to the pool");
+                this.terminated.complete(null);
+            } else if (!this.executorService.isShutdown()) {
+                this.logger.info("The executor service is being shut down");
+
+                this.executorPool.retire(this.executorService).whenComplete((_, throwable) -> {
+                    if (throwable == null) {
+                        this.logger.info("The executor service has been terminated");
+                        this.terminated.complete(null);
+                    } else {
+                        this.terminated.completeExceptionally(throwable);
                     }
-                }
+                });
             } else {
                 this.logger.info("The executor service has already been shut down");
+                this.terminated.complete(null);
             }
 
             if (this.logger.isTraceEnabled()) {
@@ -115,80 +132,348 @@ public final class ThreadRunner implements AutoCloseable {
         }
     }
 
-    /// The resource cleaner.
-    @Autowired
-    private ResourceCleaner resourceCleaner;
+    /// The executor pool.
+    private final ExecutorPool executorPool;
 
-    /// The state.
-    private State state;
+    /// The execution mode.
+    private final ExecutionMode executionMode;
 
-    /// The cleanable. Cleans up when the thread runner has become phantom reachable.
-    private Cleaner.Cleanable cleanable;
+    /// The executor strategy in the platform mode.
+    private final ExecutorStrategy executorStrategy;
 
-    /// The default constructor.
-    public ThreadRunner() {
-        super();
+    /// The configured parallelism, or zero for the available processors.
+    private final int configuredParallelism;
+
+    /// The parallelism resolved by the last setup.
+    private int parallelism;
+
+    /// The constructor.
+    ///
+    /// @param  resourceCleaner         net.jmp.spring.boot.cleaners.components.ResourceCleaner
+    /// @param  executorPool            net.jmp.spring.boot.cleaners.components.ExecutorPool
+    /// @param  executionMode           net.jmp.spring.boot.cleaners.classes.ExecutionMode
+    /// @param  executorStrategy        net.jmp.spring.boot.cleaners.classes.ExecutorStrategy
+    /// @param  configuredParallelism   int
+    /// @since                          0.3.0
+    public ThreadRunner(final ResourceCleaner resourceCleaner,
+                        final ExecutorPool executorPool,
+                        final ExecutionMode executionMode,
+                        final ExecutorStrategy executorStrategy,
+                        final int configuredParallelism) {
+        super(resourceCleaner);
+
+        this.executorPool = executorPool;
+        this.executionMode = executionMode;
+        this.executorStrategy = executorStrategy;
+        this.configuredParallelism = Math.max(0, configuredParallelism);
     }
 
     /// Sets up the thread runner.
     ///
     /// The setup method is invoked after the ThreadRunner instance is created.
-    /// It creates a new executor service and registers it with the resource
-    /// cleaner. The resource cleaner will close the executor service if it
-    /// becomes phantom reachable.
+    /// It leases an executor service for the execution mode from the executor
+    /// pool and registers it with the resource cleaner. The resource cleaner
+    /// will return the executor service to the pool, or shut it down, if the
+    /// thread runner becomes phantom reachable. Retiring an executor service
+    /// is heavier than most cleanups, so the state is registered as a slow
+    /// cleanup.
     ///
+    /// The parallelism is resolved on every setup, so that when none
+    /// is configured a change in the processors available to the JVM,
+    /// such as a container whose CPU limit is changed, is picked up.
+    ///
+    /// @throws     java.lang.IllegalStateException    When the thread runner is still open
     /// @since      0.2.0
     public void setup() {
-        this.state = new State(Executors.newFixedThreadPool(DEFAULT_NUMBER_OF_THREADS));
-        this.cleanable = this.resourceCleaner.getCleaner().register(this, this.state);
+        if (this.isOpen()) {
+            throw new IllegalStateException("The thread runner must be closed before it is set up again");
+        }
+
+        this.parallelism = this.configuredParallelism > 0
+                ? this.configuredParallelism
+                : Runtime.getRuntime().availableProcessors();
+        this.openSlow(new State(this.executorPool,
+                this.executionMode,
+                this.executorStrategy,
+                this.executorPool.lease(this.executionMode, this.executorStrategy, this.parallelism)));
     }
 
-    /// Runs threads.
+    /// Runs threads. The results are logged by
+    /// the threads themselves as they complete.
     public void runThreads() {
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(entry());
         }
 
-        final List<Future<String>> futures = new ArrayList<>();
-        final AtomicInteger counter = new AtomicInteger(0);
+        final List<Callable<String>> tasks = new ArrayList<>(this.parallelism);
+        final String submitter = Thread.currentThread().getName();
+
+        for (int i = 1; i <= this.parallelism; i++) {
+            final int j = i;
+
+            tasks.add(() -> {
+                this.logger.info("Thread {} is running: {}", Thread.currentThread().getName(), j);
+
+                return submitter + ": " + j;
+            });
+        }
+
+        try {
+            this.streamTasks(tasks,
+                    result -> this.logger.info("Task returned: {}", result),
+                    failure -> this.logger.error(catching(failure)));
+        } catch (final InterruptedException e) {
+            this.logger.error(catching(e));
+
+            Thread.currentThread().interrupt();
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs tasks on the executor service and hands
+    /// each result, or failure, to a consumer on the
+    /// thread that ran the task, as soon as the task
+    /// completes. No future is retained per task, so
+    /// the memory used does not grow with the number
+    /// of tasks, and downstream processing starts with
+    /// the first result. The consumers are called
+    /// concurrently and must be thread-safe; a lock-free
+    /// queue such as java.util.concurrent.ConcurrentLinkedQueue
+    /// can serve as a multi-producer sink via its offer
+    /// method. The method returns when every submitted
+    /// task has completed.
+    ///
+    /// @param  <T>                 The type of the task results
+    /// @param  tasks               java.util.Collection<? extends java.util.concurrent.Callable<T>>
+    /// @param  resultConsumer      java.util.function.Consumer<? super T>
+    /// @param  failureConsumer     java.util.function.Consumer<? super java.lang.Throwable>
+    /// @throws InterruptedException                        When interrupted while waiting
+    /// @throws java.util.concurrent.RejectedExecutionException When a task is rejected; the tasks already submitted are waited for
+    /// @since                      0.3.0
+    public <T> void streamTasks(final Collection<? extends Callable<T>> tasks,
+                                final Consumer<? super T> resultConsumer,
+                                final Consumer<? super Throwable> failureConsumer) throws InterruptedException {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final CountDownLatch outstanding = new CountDownLatch(tasks.size());
+
+        int submitted = 0;
+
+        try {
+            for (final Callable<T> task : tasks) {
+                this.getLeasedExecutorService().execute(() -> {
+                    try {
+                        resultConsumer.accept(task.call());
+                    } catch (final Exception e) {
+                        failureConsumer.accept(e);
+                    } finally {
+                        outstanding.countDown();
+                    }
+                });
+
+                ++submitted;
+            }
+        } catch (final RejectedExecutionException e) {
+            for (int i = submitted; i < tasks.size(); i++) {
+                outstanding.countDown();    // Tasks that will never run
+            }
+
+            outstanding.await();
+
+            throw e;
+        }
+
+        outstanding.await();
 
-        for (int i = 0; i < DEFAULT_NUMBER_OF_THREADS; i++) {
-            final int j = counter.incrementAndGet();
-            final Future<String> future = this.state.executorService.submit(
-                    () -> this.logger.info("Thread {} is running: {}", Thread.currentThread().getName(), j),
-                    Thread.currentThread().getName() + ": " + j
-            );
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Runs tasks with no deadline.
+    ///
+    /// @param  <T>                 The type of the task results
+    /// @param  tasks               java.util.Collection<? extends java.util.concurrent.Callable<T>>
+    /// @param  failurePolicy       net.jmp.spring.boot.cleaners.classes.FailurePolicy
+    /// @return                     net.jmp.spring.boot.cleaners.classes.TaskResults<T>
+    /// @throws InterruptedException    When interrupted while waiting
+    /// @throws ExecutionException      When a task fails under the fail-fast policy
+    /// @throws TimeoutException        Never, since there is no deadline
+    /// @since                      0.3.0
+    public <T> TaskResults<T> runTasks(final Collection<? extends Callable<T>> tasks,
+                                       final FailurePolicy failurePolicy)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return this.runTasks(tasks, failurePolicy, null);
+    }
 
-            futures.add(future);
+    /// Runs tasks on the executor service and returns
+    /// their results in the order the tasks complete,
+    /// so a slow task does not delay the observation
+    /// of the others. A future is held for each task
+    /// so that tasks can be cancelled; for large numbers
+    /// of tasks that need no cancellation, streamTasks
+    /// keeps memory flat. Under the fail-fast policy the
+    /// first failure is thrown; under the collect-all
+    /// policy the failures are returned with the results.
+    /// When the method returns or throws, any task still
+    /// running is cancelled.
+    ///
+    /// @param  <T>                 The type of the task results
+    /// @param  tasks               java.util.Collection<? extends java.util.concurrent.Callable<T>>
+    /// @param  failurePolicy       net.jmp.spring.boot.cleaners.classes.FailurePolicy
+    /// @param  deadline            java.time.Duration, or null for no deadline
+    /// @return                     net.jmp.spring.boot.cleaners.classes.TaskResults<T>
+    /// @throws InterruptedException    When interrupted while waiting
+    /// @throws ExecutionException      When a task fails under the fail-fast policy
+    /// @throws TimeoutException        When the deadline passes before every task completes
+    /// @since                      0.3.0
+    public <T> TaskResults<T> runTasks(final Collection<? extends Callable<T>> tasks,
+                                       final FailurePolicy failurePolicy,
+                                       final Duration deadline)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
         }
 
-        futures.forEach(future -> {
-            try {
-                this.logger.info("Future returned: {}", future.get());
-            } catch (final InterruptedException | ExecutionException e) {
-                this.logger.error(catching(e));
+        final CompletionService<T> completionService = new ExecutorCompletionService<>(this.getLeasedExecutorService());
+        final List<Future<T>> futures = new ArrayList<>(tasks.size());
+        final List<T> results = new ArrayList<>(tasks.size());
+        final List<Throwable> failures = new ArrayList<>();
+
+        try {
+            for (final Callable<T> task : tasks) {
+                futures.add(completionService.submit(task));
+            }
+
+            final long deadlineNanos = deadline == null ? 0 : System.nanoTime() + deadline.toNanos();
+
+            for (int i = 0; i < futures.size(); i++) {
+                final Future<T> future;
+
+                if (deadline == null) {
+                    future = completionService.take();
+                } else {
+                    future = completionService.poll(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+                    if (future == null) {
+                        throw new TimeoutException("The deadline of " + deadline + " passed with " +
+                                (futures.size() - i) + " task(s) outstanding");
+                    }
+                }
+
+                try {
+                    results.add(future.get());
+                } catch (final ExecutionException e) {
+                    if (failurePolicy == FailurePolicy.FAIL_FAST) {
+                        throw e;
+                    }
 
-                if (e instanceof InterruptedException) {
-                    Thread.currentThread().interrupt();
+                    failures.add(e.getCause());
                 }
             }
-        });
+        } finally {
+            futures.forEach(future -> future.cancel(true));     // Only tasks still running are affected
+        }
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exit());
         }
+
+        return new TaskResults<>(Collections.unmodifiableList(results), Collections.unmodifiableList(failures));
+    }
+
+    /// Return the execution mode.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.classes.ExecutionMode
+    /// @since  0.3.0
+    public ExecutionMode getExecutionMode() {
+        return this.executionMode;
+    }
+
+    /// Return the executor strategy.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.classes.ExecutorStrategy
+    /// @since  0.3.0
+    public ExecutorStrategy getExecutorStrategy() {
+        return this.executorStrategy;
+    }
+
+    /// Return the parallelism resolved by the last setup.
+    ///
+    /// @return int
+    /// @since  0.3.0
+    public int getParallelism() {
+        return this.parallelism;
     }
 
     /// Return the executor service.
     ///
     /// @return java.util.concurrent.ExecutorService
+    /// @throws java.lang.IllegalStateException When the thread runner is not open
     public ExecutorService getExecutorService() {
-        return this.state.executorService;
+        return this.getLeasedExecutorService();
+    }
+
+    /// Return the number of tasks waiting in the
+    /// submission queue of the executor service.
+    /// An executor service without a queue, such
+    /// as a virtual thread executor, returns zero.
+    ///
+    /// @return int
+    /// @since  0.3.0
+    public int getQueueDepth() {
+        return switch (this.getLeasedExecutorService()) {
+            case ThreadPoolExecutor threadPoolExecutor -> threadPoolExecutor.getQueue().size();
+            case ForkJoinPool forkJoinPool ->
+                    (int) Math.min(Integer.MAX_VALUE, forkJoinPool.getQueuedSubmissionCount() + forkJoinPool.getQueuedTaskCount());
+            default -> 0;
+        };
     }
 
-    /// The close method.
-    @Override
-    public void close() {
-        this.cleanable.clean();
+    /// Return the remaining capacity of the submission
+    /// queue of the executor service, or Integer.MAX_VALUE
+    /// when the queue is unbounded or absent.
+    ///
+    /// @return int
+    /// @since  0.3.0
+    public int getQueueRemainingCapacity() {
+        return this.getLeasedExecutorService() instanceof ThreadPoolExecutor threadPoolExecutor
+                ? threadPoolExecutor.getQueue().remainingCapacity()
+                : Integer.MAX_VALUE;
+    }
+
+    /// Return the leased executor service. Once the
+    /// thread runner is closed, the executor service
+    /// may belong to another thread runner, so it is
+    /// no longer handed out.
+    ///
+    /// @return java.util.concurrent.ExecutorService
+    /// @throws java.lang.IllegalStateException When the thread runner is not open
+    private ExecutorService getLeasedExecutorService() {
+        if (!this.isOpen()) {
+            throw new IllegalStateException("The thread runner is not open");
+        }
+
+        return this.getState().executorService;
+    }
+
+    /// Closes the thread runner without waiting
+    /// for the executor service to terminate. The
+    /// future is already complete when the thread
+    /// runner was never opened.
+    ///
+    /// @return java.util.concurrent.CompletableFuture<java.lang.Void>
+    /// @since  0.3.0
+    public CompletableFuture<Void> closeAsync() {
+        this.close();   // Does not wait for the executor service to terminate
+
+        final State state = this.getState();
+
+        return state != null ? state.terminated : CompletableFuture.completedFuture(null);
     }
 }
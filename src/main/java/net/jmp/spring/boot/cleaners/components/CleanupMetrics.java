@@ -0,0 +1,187 @@
+package net.jmp.spring.boot.cleaners.components;
+
+/*
+ * (#)CleanupMetrics.java  0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/// The cleanup metrics of one type of managed resource.
+/// The counters are updated from the registering threads
+/// and the cleaner threads without locking.
+///
+/// @version 0.3.0
+/// @since   0.3.0
+public final class CleanupMetrics implements CleanupMetricsMBean {
+    /// The number of registrations.
+    private final LongAdder registered = new LongAdder();
+
+    /// The number of explicit cleanups.
+    private final LongAdder cleanedExplicitly = new LongAdder();
+
+    /// The number of cleanups performed by the cleaner.
+    private final LongAdder cleanedByCleaner = new LongAdder();
+
+    /// The number of leaks reported for sampled resources.
+    private final LongAdder leaksReported = new LongAdder();
+
+    /// The total cleanup time in nanoseconds.
+    private final LongAdder totalCleanupNanos = new LongAdder();
+
+    /// The longest cleanup time in nanoseconds.
+    private final LongAccumulator maxCleanupNanos = new LongAccumulator(Long::max, 0L);
+
+    /// The name of the resource type.
+    private final String resourceName;
+
+    /// The constructor.
+    ///
+    /// @param  resourceName    java.lang.String
+    CleanupMetrics(final String resourceName) {
+        super();
+
+        this.resourceName = resourceName;
+    }
+
+    /// Return the name of the resource type.
+    ///
+    /// @return java.lang.String
+    public String getResourceName() {
+        return this.resourceName;
+    }
+
+    /// Records a registration.
+    void recordRegistration() {
+        this.registered.increment();
+    }
+
+    /// Records a completed cleanup.
+    ///
+    /// @param  explicit    boolean
+    /// @param  nanos       long
+    void recordCleanup(final boolean explicit, final long nanos) {
+        if (explicit) {
+            this.cleanedExplicitly.increment();
+        } else {
+            this.cleanedByCleaner.increment();
+        }
+
+        this.totalCleanupNanos.add(nanos);
+        this.maxCleanupNanos.accumulate(nanos);
+    }
+
+    /// Records a leak of a sampled resource.
+    void recordLeak() {
+        this.leaksReported.increment();
+    }
+
+    /// Return the number of resources registered with the cleaner.
+    ///
+    /// @return long
+    @Override
+    public long getRegistered() {
+        return this.registered.sum();
+    }
+
+    /// Return the number of resources cleaned by an explicit close.
+    ///
+    /// @return long
+    @Override
+    public long getCleanedExplicitly() {
+        return this.cleanedExplicitly.sum();
+    }
+
+    /// Return the number of resources cleaned by the
+    /// cleaner after becoming phantom reachable.
+    ///
+    /// @return long
+    @Override
+    public long getCleanedByCleaner() {
+        return this.cleanedByCleaner.sum();
+    }
+
+    /// Return the number of resources registered but not yet cleaned.
+    ///
+    /// @return long
+    @Override
+    public long getOutstanding() {
+        return this.registered.sum() - this.cleanedExplicitly.sum() - this.cleanedByCleaner.sum();
+    }
+
+    /// Return the number of sampled resources that were
+    /// cleaned by the cleaner instead of being closed.
+    ///
+    /// @return long
+    @Override
+    public long getLeaksReported() {
+        return this.leaksReported.sum();
+    }
+
+    /// Return the total time spent in cleanup actions in nanoseconds.
+    ///
+    /// @return long
+    @Override
+    public long getTotalCleanupNanos() {
+        return this.totalCleanupNanos.sum();
+    }
+
+    /// Return the longest cleanup action in nanoseconds.
+    ///
+    /// @return long
+    @Override
+    public long getMaxCleanupNanos() {
+        return this.maxCleanupNanos.get();
+    }
+
+    /// Return the mean cleanup action time in nanoseconds.
+    ///
+    /// @return long
+    @Override
+    public long getMeanCleanupNanos() {
+        final long cleaned = this.cleanedExplicitly.sum() + this.cleanedByCleaner.sum();
+
+        return cleaned == 0 ? 0 : this.totalCleanupNanos.sum() / cleaned;
+    }
+
+    /// Return a string that represents the metrics.
+    ///
+    /// @return java.lang.String
+    @Override
+    public String toString() {
+        return "CleanupMetrics{" +
+                "resourceName='" + this.resourceName + '\'' +
+                ", registered=" + this.getRegistered() +
+                ", cleanedExplicitly=" + this.getCleanedExplicitly() +
+                ", cleanedByCleaner=" + this.getCleanedByCleaner() +
+                ", outstanding=" + this.getOutstanding() +
+                ", leaksReported=" + this.getLeaksReported() +
+                ", meanCleanupNanos=" + this.getMeanCleanupNanos() +
+                ", maxCleanupNanos=" + this.getMaxCleanupNanos() +
+                '}';
+    }
+}
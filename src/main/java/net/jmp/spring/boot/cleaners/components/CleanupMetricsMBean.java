@@ -0,0 +1,78 @@
+package net.jmp.spring.boot.cleaners.components;
+
+/*
+ * (#)CleanupMetricsMBean.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/// The management interface for the cleanup
+/// metrics of one type of managed resource.
+///
+/// @version 0.3.0
+/// @since   0.3.0
+public interface CleanupMetricsMBean {
+    /// Return the number of resources registered with the cleaner.
+    ///
+    /// @return long
+    long getRegistered();
+
+    /// Return the number of resources cleaned by an explicit close.
+    ///
+    /// @return long
+    long getCleanedExplicitly();
+
+    /// Return the number of resources cleaned by the
+    /// cleaner after becoming phantom reachable.
+    ///
+    /// @return long
+    long getCleanedByCleaner();
+
+    /// Return the number of resources registered but not yet cleaned.
+    ///
+    /// @return long
+    long getOutstanding();
+
+    /// Return the number of sampled resources that were
+    /// cleaned by the cleaner instead of being closed.
+    ///
+    /// @return long
+    long getLeaksReported();
+
+    /// Return the total time spent in cleanup actions in nanoseconds.
+    ///
+    /// @return long
+    long getTotalCleanupNanos();
+
+    /// Return the longest cleanup action in nanoseconds.
+    ///
+    /// @return long
+    long getMaxCleanupNanos();
+
+    /// Return the mean cleanup action time in nanoseconds.
+    ///
+    /// @return long
+    long getMeanCleanupNanos();
+}
@@ -0,0 +1,594 @@
+package net.jmp.spring.boot.cleaners.components;
+
+/*
+ * (#)ExecutorPool.java 0.3.0   10/17/2026
+ *
+ * @author    Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import net.jmp.spring.boot.cleaners.classes.ExecutionMode;
+import net.jmp.spring.boot.cleaners.classes.ExecutorStrategy;
+import net.jmp.spring.boot.cleaners.classes.RejectionPolicy;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import org.springframework.stereotype.Component;
+
+/// A bounded pool of platform executor services. Executors
+/// are leased by thread runners on setup and returned on close
+/// or cleanup, so the worker threads are reused rather than
+/// created and joined for every thread runner. An executor is
+/// leased for a strategy and a parallelism; a pooled executor
+/// of the same strategy is resized to the parallelism asked
+/// for, so a change in the available processors is picked up
+/// without discarding the pool. Executors that
+/// sit idle longer than the idle timeout are evicted. Virtual
+/// thread executors are cheap to create and are never pooled.
+/// The pool also owns the fork/join pool shared by parallel
+/// work across the application. A fork/join executor leased
+/// by a thread runner is never the shared pool: the leased
+/// pool runs in asynchronous mode, is resized for each lease
+/// and is shut down when it is not retained, none of which
+/// may happen to the pool that other work is forking into.
+///
+/// Executor services that are not retained are retired without
+/// blocking the caller: a virtual thread awaits termination and
+/// escalates to an immediate shutdown after the termination
+/// timeout. When the pool is destroyed, the idle executor
+/// services, the shared fork/join pool and the executor
+/// services still being retired are drained: each is given
+/// the termination timeout to finish the tasks in flight.
+///
+/// Platform executor services have a bounded submission queue
+/// when a queue capacity is configured. A submission to a full
+/// queue blocks the caller, runs on the caller, or fails fast,
+/// according to the rejection policy; each such submission is
+/// counted.
+///
+/// @version 0.3.0
+/// @since   0.3.0
+@Component
+public class ExecutorPool implements DisposableBean {
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// An idle executor service, its strategy and the time it was returned to the pool.
+    ///
+    /// @param  executorService     java.util.concurrent.ExecutorService
+    /// @param  executorStrategy    net.jmp.spring.boot.cleaners.classes.ExecutorStrategy
+    /// @param  releasedAt          long
+    private record Idle(ExecutorService executorService, ExecutorStrategy executorStrategy, long releasedAt) {}
+
+    /// The idle executor services, most recently released first.
+    private final Deque<Idle> idle = new ArrayDeque<>();
+
+    /// The maximum number of idle executor services retained.
+    private final int maxIdle;
+
+    /// The parallelism of the shared fork/join pool, or zero for the available processors.
+    private final int numberOfThreads;
+
+    /// The idle timeout in nanoseconds.
+    private final long idleTimeoutNanos;
+
+    /// The time a retired executor service is given to terminate.
+    private final Duration terminationTimeout;
+
+    /// The capacity of each submission queue, or zero for unbounded.
+    private final int queueCapacity;
+
+    /// The policy applied when a submission queue is full.
+    private final RejectionPolicy rejectionPolicy;
+
+    /// The number of submissions that found a submission queue full.
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /// The factory for the daemon worker threads. Idle pooled
+    /// executor services must not keep the JVM alive.
+    private final ThreadFactory threadFactory = Thread.ofPlatform().name("executor-pool-", 1).daemon().factory();
+
+    /// The factory for the fork/join worker threads, which are daemon threads.
+    private final ForkJoinPool.ForkJoinWorkerThreadFactory forkJoinThreadFactory = this::newForkJoinWorkerThread;
+
+    /// The factory for the virtual threads.
+    private final ThreadFactory virtualThreadFactory = Thread.ofVirtual().name("executor-virtual-", 1).factory();
+
+    /// The factory for the virtual threads that await termination.
+    private final ThreadFactory terminationThreadFactory = Thread.ofVirtual().name("executor-termination-", 1).factory();
+
+    /// The number of the last fork/join worker thread created.
+    private final AtomicInteger forkJoinThreadNumber = new AtomicInteger();
+
+    /// The termination of the executor services being retired.
+    private final Set<CompletableFuture<Void>> retiring = ConcurrentHashMap.newKeySet();
+
+    /// The evictor that shuts down executor services idle beyond the timeout.
+    private final ScheduledExecutorService evictor;
+
+    /// True when the pool has been destroyed.
+    private boolean destroyed;
+
+    /// The shared fork/join pool, created on first use.
+    private volatile ForkJoinPool forkJoinPool;
+
+    /// The constructor.
+    ///
+    /// @param  maxIdle             int
+    /// @param  numberOfThreads     int
+    /// @param  idleTimeout         java.time.Duration
+    /// @param  terminationTimeout  java.time.Duration
+    /// @param  queueCapacity       int
+    /// @param  rejectionPolicy     net.jmp.spring.boot.cleaners.classes.RejectionPolicy
+    public ExecutorPool(@Value("${cleaners.executor-pool.max-idle:4}") final int maxIdle,
+                        @Value("${cleaners.executor-pool.threads:0}") final int numberOfThreads,
+                        @Value("${cleaners.executor-pool.idle-timeout:PT60S}") final Duration idleTimeout,
+                        @Value("${cleaners.executor-pool.termination-timeout:PT2S}") final Duration terminationTimeout,
+                        @Value("${cleaners.executor-pool.queue-capacity:0}") final int queueCapacity,
+                        @Value("${cleaners.executor-pool.rejection-policy:block}") final RejectionPolicy rejectionPolicy) {
+        super();
+
+        this.maxIdle = Math.max(0, maxIdle);
+        this.numberOfThreads = Math.max(0, numberOfThreads);
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.terminationTimeout = terminationTimeout;
+        this.queueCapacity = Math.max(0, queueCapacity);
+        this.rejectionPolicy = rejectionPolicy;
+        this.evictor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("executor-pool-evictor").daemon().factory()
+        );
+
+        final long period = Math.max(1L, idleTimeout.toMillis() / 2);
+
+        this.evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /// Leases an executor service for the execution mode.
+    /// For the platform mode an idle executor service of
+    /// the strategy is reused and resized to the parallelism
+    /// when one is available, otherwise a new one is created.
+    /// The strategy and parallelism do not apply to the
+    /// virtual mode.
+    ///
+    /// @param  executionMode       net.jmp.spring.boot.cleaners.classes.ExecutionMode
+    /// @param  executorStrategy    net.jmp.spring.boot.cleaners.classes.ExecutorStrategy
+    /// @param  parallelism         int
+    /// @return                     java.util.concurrent.ExecutorService
+    public ExecutorService lease(final ExecutionMode executionMode,
+                                 final ExecutorStrategy executorStrategy,
+                                 final int parallelism) {
+        if (executionMode == ExecutionMode.VIRTUAL) {
+            return Executors.newThreadPerTaskExecutor(this.virtualThreadFactory);
+        }
+
+        synchronized (this.idle) {
+            if (this.destroyed) {
+                throw new IllegalStateException("The executor pool has been destroyed");
+            }
+
+            final Iterator<Idle> iterator = this.idle.iterator();
+
+            while (iterator.hasNext()) {
+                final Idle pooled = iterator.next();
+
+                if (pooled.executorStrategy() == executorStrategy) {
+                    iterator.remove();
+
+                    return this.resize(pooled.executorService(), parallelism);
+                }
+            }
+        }
+
+        return switch (executorStrategy) {
+            case FIXED -> this.newFixedThreadPool(parallelism);
+            case WORK_STEALING -> Executors.newWorkStealingPool(parallelism);
+            case FORK_JOIN -> new ForkJoinPool(parallelism, this.forkJoinThreadFactory, null, true);
+        };
+    }
+
+    /// Returns a leased executor service to the pool.
+    /// The executor service is not retained when it is
+    /// not a platform executor, when the pool is full
+    /// or destroyed, when it has already been shut down,
+    /// or when it is not quiescent: tasks left running
+    /// or queued by a deadline, a cancellation or an
+    /// abandoned thread runner must not be shared with
+    /// the next lessee. The caller is then responsible
+    /// for shutting it down.
+    ///
+    /// @param  executionMode       net.jmp.spring.boot.cleaners.classes.ExecutionMode
+    /// @param  executorStrategy    net.jmp.spring.boot.cleaners.classes.ExecutorStrategy
+    /// @param  executorService     java.util.concurrent.ExecutorService
+    /// @return                     boolean
+    public boolean release(final ExecutionMode executionMode,
+                           final ExecutorStrategy executorStrategy,
+                           final ExecutorService executorService) {
+        if (executionMode != ExecutionMode.PLATFORM || executorService.isShutdown() || !isQuiescent(executorService)) {
+            return false;
+        }
+
+        synchronized (this.idle) {
+            if (this.destroyed || this.idle.size() >= this.maxIdle) {
+                return false;
+            }
+
+            this.idle.addFirst(new Idle(executorService, executorStrategy, System.nanoTime()));
+        }
+
+        return true;
+    }
+
+    /// Shuts down an executor service that is not
+    /// retained by the pool without waiting for it
+    /// to terminate. The returned future completes
+    /// when the executor service has terminated, or
+    /// when it has been shut down immediately after
+    /// failing to terminate within the timeout.
+    ///
+    /// @param  executorService java.util.concurrent.ExecutorService
+    /// @return                 java.util.concurrent.CompletableFuture<java.lang.Void>
+    public CompletableFuture<Void> retire(final ExecutorService executorService) {
+        executorService.shutdown();
+
+        if (executorService.isTerminated()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final CompletableFuture<Void> terminated = new CompletableFuture<>();
+
+        this.retiring.add(terminated);
+        terminated.whenComplete((_, _) -> this.retiring.remove(terminated));
+
+        this.terminationThreadFactory.newThread(() -> {
+            try {
+                if (!executorService.awaitTermination(this.terminationTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                    this.logger.warn("The executor service did not terminate within {} and is being shut down now",
+                            this.terminationTimeout);
+
+                    executorService.shutdownNow();
+                }
+
+                terminated.complete(null);
+            } catch (final InterruptedException e) {
+                executorService.shutdownNow();
+                terminated.completeExceptionally(e);
+
+                Thread.currentThread().interrupt();
+            }
+        }).start();
+
+        return terminated;
+    }
+
+    /// Return the shared fork/join pool. Its
+    /// parallelism is the configured number of
+    /// threads, or the number of processors
+    /// available when it is first used.
+    ///
+    /// @return java.util.concurrent.ForkJoinPool
+    public ForkJoinPool getForkJoinPool() {
+        ForkJoinPool pool = this.forkJoinPool;
+
+        if (pool == null) {
+            synchronized (this.idle) {
+                if (this.destroyed) {
+                    throw new IllegalStateException("The executor pool has been destroyed");
+                }
+
+                pool = this.forkJoinPool;
+
+                if (pool == null) {
+                    pool = new ForkJoinPool(this.numberOfThreads > 0
+                            ? this.numberOfThreads
+                            : Runtime.getRuntime().availableProcessors());
+
+                    this.forkJoinPool = pool;
+                }
+            }
+        }
+
+        return pool;
+    }
+
+    /// Return the capacity of each submission
+    /// queue, or zero when it is unbounded.
+    ///
+    /// @return int
+    public int getQueueCapacity() {
+        return this.queueCapacity;
+    }
+
+    /// Return the rejection policy.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.classes.RejectionPolicy
+    public RejectionPolicy getRejectionPolicy() {
+        return this.rejectionPolicy;
+    }
+
+    /// Return the number of submissions that found
+    /// a submission queue full, whatever the policy.
+    ///
+    /// @return long
+    public long getRejectedCount() {
+        return this.rejectedCount.sum();
+    }
+
+    /// Return the number of idle executor services.
+    ///
+    /// @return int
+    public int getIdleCount() {
+        synchronized (this.idle) {
+            return this.idle.size();
+        }
+    }
+
+    /// Return true when an executor service has
+    /// no task running and none waiting to run.
+    ///
+    /// @param  executorService java.util.concurrent.ExecutorService
+    /// @return                 boolean
+    private static boolean isQuiescent(final ExecutorService executorService) {
+        return switch (executorService) {
+            case ThreadPoolExecutor threadPoolExecutor ->
+                    threadPoolExecutor.getActiveCount() == 0 && threadPoolExecutor.getQueue().isEmpty();
+            case ForkJoinPool forkJoinPool -> forkJoinPool.isQuiescent();
+            default -> false;
+        };
+    }
+
+    /// Resizes a pooled executor service to the parallelism.
+    ///
+    /// @param  executorService java.util.concurrent.ExecutorService
+    /// @param  parallelism     int
+    /// @return                 java.util.concurrent.ExecutorService
+    private ExecutorService resize(final ExecutorService executorService, final int parallelism) {
+        switch (executorService) {
+            case ThreadPoolExecutor threadPoolExecutor -> {
+                if (parallelism > threadPoolExecutor.getMaximumPoolSize()) {
+                    threadPoolExecutor.setMaximumPoolSize(parallelism);
+                    threadPoolExecutor.setCorePoolSize(parallelism);
+                } else if (parallelism < threadPoolExecutor.getCorePoolSize()) {
+                    threadPoolExecutor.setCorePoolSize(parallelism);
+                    threadPoolExecutor.setMaximumPoolSize(parallelism);
+                }
+            }
+            case ForkJoinPool forkJoinPool -> {
+                if (forkJoinPool.getParallelism() != parallelism) {
+                    forkJoinPool.setParallelism(parallelism);
+                }
+            }
+            default -> {
+                // Other executor services are not resized
+            }
+        }
+
+        return executorService;
+    }
+
+    /// Creates a named daemon fork/join worker thread.
+    ///
+    /// @param  forkJoinPool    java.util.concurrent.ForkJoinPool
+    /// @return                 java.util.concurrent.ForkJoinWorkerThread
+    private ForkJoinWorkerThread newForkJoinWorkerThread(final ForkJoinPool forkJoinPool) {
+        final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+
+        thread.setName("executor-fork-join-" + this.forkJoinThreadNumber.incrementAndGet());
+
+        return thread;
+    }
+
+    /// Creates a fixed-size executor service whose
+    /// submission queue is bounded by the queue
+    /// capacity, if one is configured.
+    ///
+    /// @param  parallelism int
+    /// @return             java.util.concurrent.ExecutorService
+    private ExecutorService newFixedThreadPool(final int parallelism) {
+        final BlockingQueue<Runnable> queue = this.queueCapacity > 0
+                ? new ArrayBlockingQueue<>(this.queueCapacity)
+                : new LinkedBlockingQueue<>();
+
+        return new ThreadPoolExecutor(parallelism,
+                parallelism,
+                0L,
+                TimeUnit.MILLISECONDS,
+                queue,
+                this.threadFactory,
+                this::rejected);
+    }
+
+    /// The rejected execution handler of
+    /// every fixed-size executor service.
+    /// See java.util.concurrent.RejectedExecutionHandler.
+    ///
+    /// @param  task                java.lang.Runnable
+    /// @param  threadPoolExecutor  java.util.concurrent.ThreadPoolExecutor
+    /// @throws java.util.concurrent.RejectedExecutionException When the task is not accepted
+    private void rejected(final Runnable task, final ThreadPoolExecutor threadPoolExecutor) {
+        if (threadPoolExecutor.isShutdown()) {
+            throw new RejectedExecutionException("The executor service has been shut down");
+        }
+
+        this.rejectedCount.increment();
+
+        switch (this.rejectionPolicy) {
+            case BLOCK -> {
+                try {
+                    threadPoolExecutor.getQueue().put(task);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+
+                    throw new RejectedExecutionException("Interrupted while waiting for the submission queue", e);
+                }
+
+                if (threadPoolExecutor.isShutdown() && threadPoolExecutor.remove(task)) {
+                    throw new RejectedExecutionException("The executor service has been shut down");
+                }
+            }
+            case CALLER_RUNS -> task.run();
+            case FAIL_FAST -> throw new RejectedExecutionException("The submission queue is full (capacity " +
+                    this.queueCapacity + ")");
+        }
+    }
+
+    /// Waits for the executor services, and those
+    /// being retired, to terminate within the
+    /// termination timeout. The executor services
+    /// that do not are shut down immediately.
+    ///
+    /// @param  executorServices    java.util.List<java.util.concurrent.ExecutorService>
+    private void drain(final List<ExecutorService> executorServices) {
+        final long deadline = System.nanoTime() + this.terminationTimeout.toNanos();
+
+        try {
+            for (final ExecutorService executorService : executorServices) {
+                if (!executorService.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    executorService.shutdownNow();
+                }
+            }
+
+            CompletableFuture.allOf(this.retiring.toArray(CompletableFuture[]::new))
+                    .get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            executorServices.forEach(ExecutorService::shutdownNow);
+
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException | TimeoutException e) {
+            this.logger.warn("{} retired executor service(s) did not terminate within {}",
+                    this.retiring.size(), this.terminationTimeout);
+        }
+    }
+
+    /// Shuts down the executor services that
+    /// have been idle beyond the idle timeout.
+    private void evictIdle() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final long now = System.nanoTime();
+
+        int evicted = 0;
+
+        synchronized (this.idle) {
+            final Iterator<Idle> iterator = this.idle.descendingIterator();
+
+            while (iterator.hasNext()) {
+                final Idle pooled = iterator.next();
+
+                if (now - pooled.releasedAt() < this.idleTimeoutNanos) {
+                    break;  // The remaining entries were released more recently
+                }
+
+                iterator.remove();
+                pooled.executorService().shutdown();
+
+                ++evicted;
+            }
+        }
+
+        if (evicted > 0 && this.logger.isDebugEnabled()) {
+            this.logger.debug("Evicted {} idle executor service(s)", evicted);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Shuts down the evictor, every idle executor
+    /// service and the shared fork/join pool, and
+    /// drains them and the executor services being
+    /// retired within the termination timeout.
+    @Override
+    public void destroy() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        this.evictor.shutdownNow();
+
+        final List<ExecutorService> draining = new ArrayList<>();
+
+        synchronized (this.idle) {
+            this.destroyed = true;
+            this.idle.forEach(pooled -> draining.add(pooled.executorService()));
+            this.idle.clear();
+
+            if (this.forkJoinPool != null) {
+                draining.add(this.forkJoinPool);
+            }
+        }
+
+        draining.forEach(ExecutorService::shutdown);
+
+        this.drain(draining);
+
+        if (this.queueCapacity > 0) {
+            this.logger.info("{} submission(s) found a queue of capacity {} full under the {} policy",
+                    this.getRejectedCount(), this.queueCapacity, this.rejectionPolicy);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+}
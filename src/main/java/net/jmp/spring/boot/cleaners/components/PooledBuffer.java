@@ -0,0 +1,139 @@
+package net.jmp.spring.boot.cleaners.components;
+
+/*
+ * (#)PooledBuffer.java    0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.MemorySegment;
+
+import java.nio.ByteBuffer;
+
+import net.jmp.spring.boot.cleaners.classes.ManagedResource;
+
+/// A buffer allocated by the slab allocator. Closing the
+/// buffer returns its slot to the allocator at once; an
+/// abandoned buffer returns it when it becomes phantom
+/// reachable.
+///
+/// The segment and byte buffer views are slices of the
+/// slot and do not keep the buffer reachable: the caller
+/// must keep the buffer reachable, and open, for as long
+/// as a view is accessed, for example with try-with-resources.
+/// A view kept beyond the buffer is not invalidated, so it
+/// reaches memory that may by then belong to another buffer.
+/// Asking a closed buffer for a view fails.
+///
+/// @version 0.3.0
+/// @since   0.3.0
+public final class PooledBuffer extends ManagedResource<PooledBuffer.State> {
+    /// The resource(s) that require cleanup.
+    /// This state class must never refer to PooledBuffer.
+    static class State implements Runnable {
+        /// The size class the slot is returned to.
+        private final SlabAllocator.SizeClass sizeClass;
+
+        /// The slot.
+        private final MemorySegment slot;
+
+        /// The constructor.
+        ///
+        /// @param  sizeClass   net.jmp.spring.boot.cleaners.components.SlabAllocator.SizeClass
+        /// @param  slot        java.lang.foreign.MemorySegment
+        private State(final SlabAllocator.SizeClass sizeClass, final MemorySegment slot) {
+            this.sizeClass = sizeClass;
+            this.slot = slot;
+        }
+
+        /// The run method.  This method
+        /// will be invoked at most one
+        /// time by either the close method
+        /// or the cleaner.
+        @Override
+        public void run() {
+            this.sizeClass.release(this.slot);
+        }
+    }
+
+    /// The memory of the buffer, sized as requested.
+    private final MemorySegment segment;
+
+    /// The constructor.
+    ///
+    /// @param  resourceCleaner net.jmp.spring.boot.cleaners.components.ResourceCleaner
+    /// @param  sizeClass       net.jmp.spring.boot.cleaners.components.SlabAllocator.SizeClass
+    /// @param  slot            java.lang.foreign.MemorySegment
+    /// @param  byteSize        long
+    PooledBuffer(final ResourceCleaner resourceCleaner,
+                 final SlabAllocator.SizeClass sizeClass,
+                 final MemorySegment slot,
+                 final long byteSize) {
+        super(resourceCleaner);
+
+        this.segment = slot.asSlice(0, byteSize);
+        this.open(new State(sizeClass, slot));
+    }
+
+    /// Return the memory of the buffer. The segment
+    /// does not keep the buffer reachable and must
+    /// not be accessed once the buffer is closed.
+    ///
+    /// @return java.lang.foreign.MemorySegment
+    /// @throws java.lang.IllegalStateException When the buffer is closed
+    public MemorySegment getSegment() {
+        this.checkOpen();
+
+        return this.segment;
+    }
+
+    /// Return a direct byte buffer view of the memory.
+    /// Like the segment, it must not be accessed once
+    /// the buffer is closed.
+    ///
+    /// @return java.nio.ByteBuffer
+    /// @throws java.lang.IllegalStateException When the buffer is closed
+    public ByteBuffer asByteBuffer() {
+        this.checkOpen();
+
+        return this.segment.asByteBuffer();
+    }
+
+    /// Return the size of the buffer in bytes.
+    ///
+    /// @return long
+    public long getByteSize() {
+        return this.segment.byteSize();
+    }
+
+    /// Checks that the buffer is open.
+    ///
+    /// @throws java.lang.IllegalStateException When the buffer is closed
+    private void checkOpen() {
+        if (!this.isOpen()) {
+            throw new IllegalStateException("The pooled buffer is closed");
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package net.jmp.spring.boot.cleaners.components;
+
+/*
+ * (#)ReclamationAssist.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import org.springframework.stereotype.Component;
+
+/// The reclamation assist. Abandoned resources are only
+/// cleaned once the garbage collector finds them phantom
+/// reachable. Rather than forcing a collection on every
+/// pass, a collection is requested only when the number
+/// of outstanding resources registered with the resource
+/// cleaner reaches a threshold, and then at most once per
+/// interval. The collection is requested on a daemon thread
+/// so the caller never waits for it. The assist is opt-in.
+///
+/// On shutdown the pending cleanup actions can be flushed:
+/// one collection is requested and the cleaners are given
+/// time to clean the abandoned resources it finds before
+/// they stop.
+///
+/// @version 0.3.0
+/// @since   0.3.0
+@Component
+public class ReclamationAssist implements DisposableBean {
+    /// The time between checks of the outstanding resources when flushing.
+    private static final Duration FLUSH_POLL_INTERVAL = Duration.ofMillis(10);
+
+    /// The time without a drop in the outstanding resources after which a flush stops waiting.
+    private static final Duration FLUSH_SETTLE_INTERVAL = Duration.ofMillis(200);
+
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The resource cleaner.
+    private final ResourceCleaner resourceCleaner;
+
+    /// True when the assist is enabled.
+    private final boolean enabled;
+
+    /// The number of outstanding resources at which a collection is requested.
+    private final long backlogThreshold;
+
+    /// The minimum interval between collections in nanoseconds.
+    private final long minIntervalNanos;
+
+    /// The time of the last requested collection in nanoseconds.
+    private final AtomicLong lastRequested;
+
+    /// The daemon thread that requests the collections.
+    private final ExecutorService requester;
+
+    /// The constructor.
+    ///
+    /// @param  resourceCleaner     net.jmp.spring.boot.cleaners.components.ResourceCleaner
+    /// @param  enabled             boolean
+    /// @param  backlogThreshold    long
+    /// @param  minInterval         java.time.Duration
+    public ReclamationAssist(final ResourceCleaner resourceCleaner,
+                             @Value("${cleaners.reclamation-assist.enabled:false}") final boolean enabled,
+                             @Value("${cleaners.reclamation-assist.backlog-threshold:1000}") final long backlogThreshold,
+                             @Value("${cleaners.reclamation-assist.min-interval:PT10S}") final Duration minInterval) {
+        super();
+
+        this.resourceCleaner = resourceCleaner;
+        this.enabled = enabled;
+        this.backlogThreshold = Math.max(1, backlogThreshold);
+        this.minIntervalNanos = minInterval.toNanos();
+        this.lastRequested = new AtomicLong(System.nanoTime() - this.minIntervalNanos);
+        this.requester = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("reclamation-assist").daemon().factory()
+        );
+    }
+
+    /// Requests a garbage collection if the assist is
+    /// enabled, the backlog of outstanding resources has
+    /// reached the threshold, and no collection has been
+    /// requested within the minimum interval. The method
+    /// does not wait for the collection.
+    ///
+    /// @return boolean True when a collection was requested
+    public boolean requestReclamation() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        boolean requested = false;
+
+        if (this.enabled) {
+            final long outstanding = this.resourceCleaner.getOutstanding();
+
+            if (outstanding >= this.backlogThreshold) {
+                final long now = System.nanoTime();
+                final long last = this.lastRequested.get();
+
+                if (now - last >= this.minIntervalNanos && this.lastRequested.compareAndSet(last, now)) {
+                    this.requester.execute(System::gc);
+
+                    requested = true;
+
+                    if (this.logger.isDebugEnabled()) {
+                        this.logger.debug("Requested a collection for {} outstanding resource(s)", outstanding);
+                    }
+                }
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+
+        return requested;
+    }
+
+    /// Requests a single collection and waits for the
+    /// cleaners to run the cleanup actions it made due,
+    /// whether or not the assist is enabled. The wait
+    /// ends when no resource is outstanding, when the
+    /// number outstanding has not dropped for a settle
+    /// interval, since the rest are still reachable, or
+    /// when the timeout elapses.
+    ///
+    /// @param  timeout java.time.Duration
+    /// @return         boolean True when no resource is outstanding
+    public boolean flush(final Duration timeout) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final long deadline = System.nanoTime() + timeout.toNanos();
+
+        long outstanding = this.resourceCleaner.getOutstanding();
+
+        if (outstanding > 0) {
+            System.gc();
+
+            long lastDrop = System.nanoTime();
+
+            while (outstanding > 0 && deadline - System.nanoTime() > 0 &&
+                    System.nanoTime() - lastDrop < FLUSH_SETTLE_INTERVAL.toNanos()) {
+                try {
+                    Thread.sleep(FLUSH_POLL_INTERVAL);
+                } catch (final InterruptedException _) {
+                    Thread.currentThread().interrupt();
+
+                    break;
+                }
+
+                final long remaining = this.resourceCleaner.getOutstanding();
+
+                if (remaining < outstanding) {
+                    lastDrop = System.nanoTime();
+                }
+
+                outstanding = remaining;
+            }
+        }
+
+        if (outstanding > 0) {
+            this.logger.warn("{} resource(s) are still outstanding after flushing", outstanding);
+        } else {
+            this.logger.info("Every pending cleanup action has been flushed");
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+
+        return outstanding == 0;
+    }
+
+    /// Return true when the assist is enabled.
+    ///
+    /// @return boolean
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /// Stops the requester thread.
+    @Override
+    public void destroy() {
+        this.requester.shutdownNow();
+    }
+}
@@ -1,6 +1,7 @@
 package net.jmp.spring.boot.cleaners.components;
 
 /*
+ * (#)ResourceCleaner.java  0.3.0   10/17/2026
  * (#)ResourceCleaner.java  0.2.0   01/16/2025
  *
  * @author    Jonathan Parker
@@ -28,28 +29,382 @@ package net.jmp.spring.boot.cleaners.components;
  * SOFTWARE.
  */
 
-import org.springframework.stereotype.Component;
+import java.lang.management.ManagementFactory;
 
 import java.lang.ref.Cleaner;
 
-/// The resource cleaner.
+import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import net.jmp.spring.boot.cleaners.classes.ManagedResource;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import org.springframework.stereotype.Component;
+
+/// The resource cleaner. Registrations are spread across a
+/// configurable number of cleaners, each with its own daemon
+/// thread, so that one slow cleanup action does not hold up
+/// every other pending cleanup. Slow cleanup actions, such as
+/// executor service shutdown, are registered with a dedicated
+/// cleaner so they cannot starve cheap ones.
+///
+/// Resources registered through the register methods are
+/// counted per resource type. The counts of explicit and
+/// cleaner-driven cleanups, the cleanup action times and
+/// the outstanding resources are published over JMX. The
+/// object names carry the instance number of the resource
+/// cleaner, so the metrics of several application contexts
+/// in one JVM neither collide nor unregister one another.
 ///
-/// @version 0.2.0
+/// Leak detection samples a configurable fraction of the
+/// registrations and captures the top of the registering
+/// stack. When a sampled resource is cleaned by the cleaner
+/// rather than closed, a leak is counted and logged with
+/// that allocation site. With a sampling rate of zero, the
+/// default, registration pays only for a field comparison.
+///
+/// @version 0.3.0
 /// @since   0.2.0
 @Component
-public class ResourceCleaner {
-    /// The cleaner.
-    private static final Cleaner cleaner = Cleaner.create();
+public class ResourceCleaner implements DisposableBean {
+    /// The JMX domain of the cleanup metrics.
+    private static final String JMX_DOMAIN = "net.jmp.spring.boot.cleaners";
+
+    /// The number of resource cleaners created in this JVM.
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    /// The number of frames captured for an allocation site.
+    private static final int ALLOCATION_SITE_DEPTH = 8;
+
+    /// The stack walker that captures allocation sites. It retains
+    /// the classes of the frames so that the frames of the resource
+    /// classes can be told apart from those of their callers.
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The allocation site of a sampled resource
+    /// and the logger its leak is reported to.
+    ///
+    /// @param  logger  org.slf4j.Logger
+    /// @param  frames  java.lang.StackTraceElement[]
+    private record AllocationSite(Logger logger, StackTraceElement[] frames) {
+        /// Reports the leak of a resource allocated at this site.
+        ///
+        /// @param  metrics net.jmp.spring.boot.cleaners.components.CleanupMetrics
+        private void report(final CleanupMetrics metrics) {
+            metrics.recordLeak();
+
+            final StringBuilder stackTrace = new StringBuilder();
+
+            for (final StackTraceElement frame : this.frames) {
+                stackTrace.append(System.lineSeparator()).append("\tat ").append(frame);
+            }
+
+            this.logger.warn("LEAK: A {} was not closed and has been cleaned by the cleaner. It was set up at:{}",
+                    metrics.getResourceName(),
+                    stackTrace);
+        }
+    }
+
+    /// A cleanup action that records its metrics. It is
+    /// also handed to the owner as its cleanable so that
+    /// an explicit clean can be told apart from a clean
+    /// by the cleaner. Like the state it wraps, this class
+    /// must never refer to the owner.
+    private static final class TrackedAction implements Runnable, Cleaner.Cleanable {
+        /// The cleanup action.
+        private final Runnable action;
+
+        /// The metrics of the resource type.
+        private final CleanupMetrics metrics;
+
+        /// The allocation site when the resource is sampled for leak detection, or null.
+        private final AllocationSite allocationSite;
+
+        /// The cleanable returned by the cleaner.
+        private Cleaner.Cleanable cleanable;
+
+        /// True when the owner cleaned explicitly.
+        private volatile boolean explicit;
+
+        /// The constructor.
+        ///
+        /// @param  action          java.lang.Runnable
+        /// @param  metrics         net.jmp.spring.boot.cleaners.components.CleanupMetrics
+        /// @param  allocationSite  net.jmp.spring.boot.cleaners.components.ResourceCleaner.AllocationSite
+        private TrackedAction(final Runnable action,
+                              final CleanupMetrics metrics,
+                              final AllocationSite allocationSite) {
+            this.action = action;
+            this.metrics = metrics;
+            this.allocationSite = allocationSite;
+        }
+
+        /// The clean method invoked by the owner.
+        @Override
+        public void clean() {
+            this.explicit = true;
+            this.cleanable.clean();
+        }
+
+        /// The run method invoked at most
+        /// one time by either the clean
+        /// method or the cleaner.
+        @Override
+        public void run() {
+            final long start = System.nanoTime();
+
+            try {
+                this.action.run();
+            } finally {
+                this.metrics.recordCleanup(this.explicit, System.nanoTime() - start);
+            }
+
+            if (!this.explicit && this.allocationSite != null) {
+                this.allocationSite.report(this.metrics);
+            }
+        }
+    }
+
+    /// The cleanup metrics by resource type.
+    private final Map<Class<?>, CleanupMetrics> metrics = new ConcurrentHashMap<>();
+
+    /// The cleaners for cheap cleanup actions.
+    private final Cleaner[] cleaners;
+
+    /// The cleaner for slow cleanup actions.
+    private final Cleaner slowCleaner;
+
+    /// The fraction of registrations sampled for leak detection.
+    private final double leakSamplingRate;
+
+    /// The instance number that keys the JMX object names.
+    private final int instance = INSTANCES.incrementAndGet();
 
     /// The default constructor.
     public ResourceCleaner() {
+        this(1, 0.0);
+    }
+
+    /// A constructor.
+    ///
+    /// @param  shards              int
+    /// @param  leakSamplingRate    double
+    /// @since                      0.3.0
+    @Autowired
+    public ResourceCleaner(@Value("${cleaners.resource-cleaner.shards:2}") final int shards,
+                           @Value("${cleaners.resource-cleaner.leak-sampling-rate:0}") final double leakSamplingRate) {
         super();
+
+        this.leakSamplingRate = Math.clamp(leakSamplingRate, 0.0, 1.0);
+
+        this.cleaners = new Cleaner[Math.max(1, shards)];
+
+        for (int i = 0; i < this.cleaners.length; i++) {
+            this.cleaners[i] = Cleaner.create(Thread.ofPlatform().name("resource-cleaner-" + (i + 1)).factory());
+        }
+
+        this.slowCleaner = Cleaner.create(Thread.ofPlatform().name("resource-cleaner-slow").factory());
     }
 
-    /// Retrieves the cleaner object.
+    /// Retrieves the cleaner object for a referent. The
+    /// cleaner is chosen by the identity hash of the
+    /// referent, so the registrations of a single thread
+    /// are spread across the cleaners as evenly as those
+    /// of many threads, and every registration on the
+    /// same referent goes to the same cleaner.
+    ///
+    /// @param  referent    java.lang.Object
+    /// @return             java.lang.ref.Cleaner
+    /// @since              0.3.0
+    public Cleaner getCleaner(final Object referent) {
+        if (this.cleaners.length == 1) {
+            return this.cleaners[0];
+        }
+
+        final int hash = System.identityHashCode(referent);
+
+        return this.cleaners[Math.floorMod(hash ^ (hash >>> 16), this.cleaners.length)];
+    }
+
+    /// Retrieves the cleaner object for slow cleanup actions.
     ///
     /// @return java.lang.ref.Cleaner
-    public Cleaner getCleaner() {
-        return cleaner;
+    /// @since  0.3.0
+    public Cleaner getSlowCleaner() {
+        return this.slowCleaner;
+    }
+
+    /// Registers an object and a cheap cleanup action.
+    ///
+    /// @param  object  java.lang.Object
+    /// @param  action  java.lang.Runnable
+    /// @return         java.lang.ref.Cleaner.Cleanable
+    /// @since          0.3.0
+    public Cleaner.Cleanable register(final Object object, final Runnable action) {
+        return this.track(this.getCleaner(object), object, action);
+    }
+
+    /// Registers an object and a slow cleanup
+    /// action with the dedicated slow cleaner.
+    ///
+    /// @param  object  java.lang.Object
+    /// @param  action  java.lang.Runnable
+    /// @return         java.lang.ref.Cleaner.Cleanable
+    /// @since          0.3.0
+    public Cleaner.Cleanable registerSlow(final Object object, final Runnable action) {
+        return this.track(this.slowCleaner, object, action);
+    }
+
+    /// Return the number of cleaners for cheap cleanup actions.
+    ///
+    /// @return int
+    /// @since  0.3.0
+    public int getShards() {
+        return this.cleaners.length;
+    }
+
+    /// Return the fraction of registrations sampled for leak detection.
+    ///
+    /// @return double
+    /// @since  0.3.0
+    public double getLeakSamplingRate() {
+        return this.leakSamplingRate;
+    }
+
+    /// Return the cleanup metrics of a resource type.
+    ///
+    /// @param  resourceType    java.lang.Class<?>
+    /// @return                 net.jmp.spring.boot.cleaners.components.CleanupMetrics
+    /// @since                  0.3.0
+    public CleanupMetrics getMetrics(final Class<?> resourceType) {
+        return this.metrics.computeIfAbsent(resourceType, this::createMetrics);
+    }
+
+    /// Return the number of resources of every type
+    /// that are registered but not yet cleaned.
+    ///
+    /// @return long
+    /// @since  0.3.0
+    public long getOutstanding() {
+        long outstanding = 0;
+
+        for (final CleanupMetrics resourceMetrics : this.metrics.values()) {
+            outstanding += resourceMetrics.getOutstanding();
+        }
+
+        return outstanding;
+    }
+
+    /// Registers an object and a tracked cleanup action with a cleaner.
+    ///
+    /// @param  cleaner java.lang.ref.Cleaner
+    /// @param  object  java.lang.Object
+    /// @param  action  java.lang.Runnable
+    /// @return         java.lang.ref.Cleaner.Cleanable
+    private Cleaner.Cleanable track(final Cleaner cleaner, final Object object, final Runnable action) {
+        final CleanupMetrics resourceMetrics = this.getMetrics(object.getClass());
+        final TrackedAction trackedAction = new TrackedAction(action, resourceMetrics, this.sampleAllocationSite());
+
+        resourceMetrics.recordRegistration();
+
+        trackedAction.cleanable = cleaner.register(object, trackedAction);
+
+        return trackedAction;
+    }
+
+    /// Captures the allocation site of a registration
+    /// if it is sampled for leak detection. Only the
+    /// frames above the resource cleaner and the
+    /// managed resource that registers are kept.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.components.ResourceCleaner.AllocationSite
+    private AllocationSite sampleAllocationSite() {
+        if (this.leakSamplingRate == 0.0 ||
+                (this.leakSamplingRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= this.leakSamplingRate)) {
+            return null;
+        }
+
+        final StackTraceElement[] frames = STACK_WALKER.walk(stream -> stream
+                .dropWhile(frame -> frame.getDeclaringClass() == ResourceCleaner.class ||
+                        ManagedResource.class.isAssignableFrom(frame.getDeclaringClass()))
+                .limit(ALLOCATION_SITE_DEPTH)
+                .map(StackWalker.StackFrame::toStackTraceElement)
+                .toArray(StackTraceElement[]::new));
+
+        return new AllocationSite(this.logger, frames);
+    }
+
+    /// Creates the cleanup metrics of a resource
+    /// type and registers them with JMX.
+    ///
+    /// @param  resourceType    java.lang.Class<?>
+    /// @return                 net.jmp.spring.boot.cleaners.components.CleanupMetrics
+    private CleanupMetrics createMetrics(final Class<?> resourceType) {
+        final CleanupMetrics resourceMetrics = new CleanupMetrics(resourceType.getSimpleName());
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(resourceMetrics, this.objectName(resourceMetrics));
+        } catch (final JMException e) {
+            this.logger.warn("The cleanup metrics for {} were not registered with JMX: {}",
+                    resourceMetrics.getResourceName(),
+                    e.getMessage());
+        }
+
+        return resourceMetrics;
+    }
+
+    /// Return the JMX object name of cleanup metrics.
+    ///
+    /// @param  resourceMetrics net.jmp.spring.boot.cleaners.components.CleanupMetrics
+    /// @return                 javax.management.ObjectName
+    /// @throws                 javax.management.JMException    When the name is malformed
+    private ObjectName objectName(final CleanupMetrics resourceMetrics) throws JMException {
+        return new ObjectName(JMX_DOMAIN + ":type=CleanupMetrics,instance=" + this.instance +
+                ",name=" + resourceMetrics.getResourceName());
+    }
+
+    /// Logs the cleanup metrics and
+    /// unregisters them from JMX.
+    @Override
+    public void destroy() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+        for (final CleanupMetrics resourceMetrics : this.metrics.values()) {
+            this.logger.info("{}", resourceMetrics);
+
+            try {
+                mBeanServer.unregisterMBean(this.objectName(resourceMetrics));
+            } catch (final JMException _) {
+                // The metrics were never registered
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
     }
 }
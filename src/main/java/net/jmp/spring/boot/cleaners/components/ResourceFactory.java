@@ -0,0 +1,124 @@
+package net.jmp.spring.boot.cleaners.components;
+
+/*
+ * (#)ResourceFactory.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import net.jmp.spring.boot.cleaners.classes.*;
+
+/// The factory for the prototype objects. The resource
+/// cleaner and executor pool are resolved once and passed
+/// to each new object's constructor, so creating an object
+/// costs neither a bean definition lookup nor reflective
+/// field injection.
+///
+/// @version 0.3.0
+/// @since   0.3.0
+public final class ResourceFactory {
+    /// The resource cleaner.
+    private final ResourceCleaner resourceCleaner;
+
+    /// The executor pool.
+    private final ExecutorPool executorPool;
+
+    /// The default execution mode of thread runners.
+    private final ExecutionMode executionMode;
+
+    /// The executor strategy of thread runners.
+    private final ExecutorStrategy executorStrategy;
+
+    /// The parallelism of thread runners, or zero for the available processors.
+    private final int parallelism;
+
+    /// The constructor.
+    ///
+    /// @param  resourceCleaner     net.jmp.spring.boot.cleaners.components.ResourceCleaner
+    /// @param  executorPool        net.jmp.spring.boot.cleaners.components.ExecutorPool
+    /// @param  executionMode       net.jmp.spring.boot.cleaners.classes.ExecutionMode
+    /// @param  executorStrategy    net.jmp.spring.boot.cleaners.classes.ExecutorStrategy
+    /// @param  parallelism         int
+    public ResourceFactory(final ResourceCleaner resourceCleaner,
+                           final ExecutorPool executorPool,
+                           final ExecutionMode executionMode,
+                           final ExecutorStrategy executorStrategy,
+                           final int parallelism) {
+        super();
+
+        this.resourceCleaner = resourceCleaner;
+        this.executorPool = executorPool;
+        this.executionMode = executionMode;
+        this.executorStrategy = executorStrategy;
+        this.parallelism = parallelism;
+    }
+
+    /// Creates a person.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.classes.Person
+    public Person newPerson() {
+        return new Person();
+    }
+
+    /// Creates a room.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.classes.Room
+    public Room newRoom() {
+        return new Room(this.resourceCleaner);
+    }
+
+    /// Creates a mapped file resource.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.classes.MappedFileResource
+    public MappedFileResource newMappedFileResource() {
+        return new MappedFileResource(this.resourceCleaner);
+    }
+
+    /// Creates a native buffer.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.classes.NativeBuffer
+    public NativeBuffer newNativeBuffer() {
+        return new NativeBuffer(this.resourceCleaner);
+    }
+
+    /// Creates a thread runner in the default execution mode.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.classes.ThreadRunner
+    public ThreadRunner newThreadRunner() {
+        return this.newThreadRunner(this.executionMode);
+    }
+
+    /// Creates a thread runner.
+    ///
+    /// @param  executionMode   net.jmp.spring.boot.cleaners.classes.ExecutionMode
+    /// @return                 net.jmp.spring.boot.cleaners.classes.ThreadRunner
+    public ThreadRunner newThreadRunner(final ExecutionMode executionMode) {
+        return new ThreadRunner(this.resourceCleaner,
+                this.executorPool,
+                executionMode,
+                this.executorStrategy,
+                this.parallelism);
+    }
+}
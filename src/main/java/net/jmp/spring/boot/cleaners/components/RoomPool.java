@@ -0,0 +1,166 @@
+package net.jmp.spring.boot.cleaners.components;
+
+/*
+ * (#)RoomPool.java        0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import net.jmp.spring.boot.cleaners.classes.Room;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import org.springframework.stereotype.Component;
+
+/// The room pool. When enabled, closed rooms are returned to
+/// the pool and handed out again, together with their state,
+/// so steady-state room churn allocates only the per-use
+/// cleaner registration. Every use is still registered with
+/// the resource cleaner, so a pooled room that is abandoned
+/// rather than closed is cleaned by the cleaner; it is simply
+/// never returned and the pool creates a replacement. When
+/// disabled, every acquisition creates a new, unpooled room.
+/// A pooled room can only be set up after an acquisition, so
+/// a caller that keeps a room after closing it cannot set it
+/// up under its next owner.
+///
+/// @version 0.3.0
+/// @since   0.3.0
+@Component
+public class RoomPool {
+    /// The idle rooms.
+    private final Deque<Room> idle = new ArrayDeque<>();
+
+    /// The resource cleaner.
+    private final ResourceCleaner resourceCleaner;
+
+    /// True when the pool is enabled.
+    private final boolean enabled;
+
+    /// The maximum number of idle rooms retained.
+    private final int maxIdle;
+
+    /// The number of rooms created.
+    private final LongAdder created = new LongAdder();
+
+    /// The number of rooms reused from the pool.
+    private final LongAdder reused = new LongAdder();
+
+    /// The constructor.
+    ///
+    /// @param  resourceCleaner net.jmp.spring.boot.cleaners.components.ResourceCleaner
+    /// @param  enabled         boolean
+    /// @param  maxIdle         int
+    public RoomPool(final ResourceCleaner resourceCleaner,
+                    @Value("${cleaners.room-pool.enabled:false}") final boolean enabled,
+                    @Value("${cleaners.room-pool.max-idle:1024}") final int maxIdle) {
+        super();
+
+        this.resourceCleaner = resourceCleaner;
+        this.enabled = enabled;
+        this.maxIdle = Math.max(0, maxIdle);
+    }
+
+    /// Acquires a room that is ready to be set up.
+    ///
+    /// @return net.jmp.spring.boot.cleaners.classes.Room
+    public Room acquire() {
+        if (this.enabled) {
+            final Room room;
+
+            synchronized (this.idle) {
+                room = this.idle.pollFirst();
+            }
+
+            if (room != null) {
+                room.acquire(this);
+
+                this.reused.increment();
+
+                return room;
+            }
+
+            final Room created = new Room(this.resourceCleaner, this);
+
+            created.acquire(this);
+
+            this.created.increment();
+
+            return created;
+        }
+
+        this.created.increment();
+
+        return new Room(this.resourceCleaner);
+    }
+
+    /// Returns a closed room to the pool. The
+    /// room is dropped when the pool is full.
+    /// This method is invoked by Room.close().
+    ///
+    /// @param  room    net.jmp.spring.boot.cleaners.classes.Room
+    public void release(final Room room) {
+        synchronized (this.idle) {
+            if (this.idle.size() < this.maxIdle) {
+                this.idle.addFirst(room);
+            }
+        }
+    }
+
+    /// Return true when the pool is enabled.
+    ///
+    /// @return boolean
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /// Return the number of idle rooms.
+    ///
+    /// @return int
+    public int getIdleCount() {
+        synchronized (this.idle) {
+            return this.idle.size();
+        }
+    }
+
+    /// Return the number of rooms created.
+    ///
+    /// @return long
+    public long getCreatedCount() {
+        return this.created.sum();
+    }
+
+    /// Return the number of rooms reused from the pool.
+    ///
+    /// @return long
+    public long getReusedCount() {
+        return this.reused.sum();
+    }
+}
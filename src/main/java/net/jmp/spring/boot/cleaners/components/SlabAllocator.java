@@ -0,0 +1,293 @@
+package net.jmp.spring.boot.cleaners.components;
+
+/*
+ * (#)SlabAllocator.java   0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import org.springframework.stereotype.Component;
+
+import org.springframework.util.unit.DataSize;
+
+/// A slab allocator of off-heap buffers. Buffers are sliced
+/// from large chunks that are allocated once, so a buffer
+/// costs neither a native allocation nor a late free. Each
+/// power-of-two size class, from the minimum to the maximum
+/// buffer size, has its own chunks and a lock-free free list.
+/// A closed buffer returns its slot to the free list at once;
+/// an abandoned buffer returns it through the resource cleaner.
+/// Slots are not zeroed when they are reused.
+///
+/// A buffer views its slot directly, so allocating and
+/// releasing a buffer costs no arena and no handshake. A
+/// view that outlives its buffer is not invalidated and
+/// may reach a slot that has been reused: keeping the
+/// buffer open while its views are accessed is the
+/// caller's contract, as it is for a native buffer.
+///
+/// The chunks are freed when the allocator is destroyed.
+///
+/// @version 0.3.0
+/// @since   0.3.0
+@Component
+public class SlabAllocator implements DisposableBean {
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The free slots and usage of one size class. The
+    /// state of a buffer refers to its size class, never
+    /// to the buffer, so returning a slot cannot keep the
+    /// buffer reachable.
+    static final class SizeClass {
+        /// The size of each slot in bytes.
+        private final long slotSize;
+
+        /// The free slots.
+        private final Queue<MemorySegment> free = new ConcurrentLinkedQueue<>();
+
+        /// The number of chunks allocated.
+        private final LongAdder chunks = new LongAdder();
+
+        /// The number of buffers allocated.
+        private final LongAdder allocations = new LongAdder();
+
+        /// The number of buffers released.
+        private final LongAdder releases = new LongAdder();
+
+        /// The constructor.
+        ///
+        /// @param  slotSize    long
+        private SizeClass(final long slotSize) {
+            this.slotSize = slotSize;
+        }
+
+        /// Returns a slot to the free list.
+        ///
+        /// @param  slot    java.lang.foreign.MemorySegment
+        void release(final MemorySegment slot) {
+            this.free.offer(slot);
+            this.releases.increment();
+        }
+    }
+
+    /// The usage of one size class.
+    ///
+    /// @param  slotSize    long
+    /// @param  chunks      long
+    /// @param  freeSlots   long
+    /// @param  inUse       long
+    /// @param  allocations long
+    public record SizeClassStats(long slotSize, long chunks, long freeSlots, long inUse, long allocations) {}
+
+    /// The resource cleaner.
+    private final ResourceCleaner resourceCleaner;
+
+    /// The arena that owns the chunks.
+    private final Arena arena = Arena.ofShared();
+
+    /// The size classes, smallest first.
+    private final SizeClass[] sizeClasses;
+
+    /// The size of each chunk in bytes.
+    private final long chunkSize;
+
+    /// The base two logarithm of the smallest slot size.
+    private final int minShift;
+
+    /// The constructor.
+    ///
+    /// @param  resourceCleaner net.jmp.spring.boot.cleaners.components.ResourceCleaner
+    /// @param  minSize         org.springframework.util.unit.DataSize
+    /// @param  maxSize         org.springframework.util.unit.DataSize
+    /// @param  chunkSize       org.springframework.util.unit.DataSize
+    public SlabAllocator(final ResourceCleaner resourceCleaner,
+                         @Value("${cleaners.slab-allocator.min-size:256B}") final DataSize minSize,
+                         @Value("${cleaners.slab-allocator.max-size:64KB}") final DataSize maxSize,
+                         @Value("${cleaners.slab-allocator.chunk-size:1MB}") final DataSize chunkSize) {
+        super();
+
+        this.resourceCleaner = resourceCleaner;
+        this.minShift = shiftOf(Math.max(1, minSize.toBytes()));
+
+        final int maxShift = Math.max(this.minShift, shiftOf(maxSize.toBytes()));
+
+        this.chunkSize = Math.max(chunkSize.toBytes(), 1L << maxShift);
+        this.sizeClasses = new SizeClass[maxShift - this.minShift + 1];
+
+        for (int i = 0; i < this.sizeClasses.length; i++) {
+            this.sizeClasses[i] = new SizeClass(1L << (this.minShift + i));
+        }
+    }
+
+    /// Allocates a buffer of at least the size
+    /// given from the smallest size class that
+    /// holds it.
+    ///
+    /// @param  byteSize    long
+    /// @return             net.jmp.spring.boot.cleaners.components.PooledBuffer
+    /// @throws java.lang.IllegalArgumentException  When the size is not positive or exceeds the maximum
+    public PooledBuffer allocate(final long byteSize) {
+        if (byteSize <= 0 || byteSize > this.getMaxSize()) {
+            throw new IllegalArgumentException("The buffer size must be from 1 to " + this.getMaxSize() +
+                    " bytes: " + byteSize);
+        }
+
+        final SizeClass sizeClass = this.sizeClasses[Math.max(0, shiftOf(byteSize) - this.minShift)];
+
+        MemorySegment slot = sizeClass.free.poll();
+
+        if (slot == null) {
+            slot = this.carve(sizeClass);
+        }
+
+        sizeClass.allocations.increment();
+
+        return new PooledBuffer(this.resourceCleaner, sizeClass, slot, byteSize);
+    }
+
+    /// Return the largest buffer size in bytes.
+    ///
+    /// @return long
+    public long getMaxSize() {
+        return this.sizeClasses[this.sizeClasses.length - 1].slotSize;
+    }
+
+    /// Return the usage of every size class, smallest first.
+    ///
+    /// @return java.util.List<net.jmp.spring.boot.cleaners.components.SlabAllocator.SizeClassStats>
+    public List<SizeClassStats> getStats() {
+        final List<SizeClassStats> stats = new ArrayList<>(this.sizeClasses.length);
+
+        for (final SizeClass sizeClass : this.sizeClasses) {
+            final long allocations = sizeClass.allocations.sum();
+
+            stats.add(new SizeClassStats(sizeClass.slotSize,
+                    sizeClass.chunks.sum(),
+                    sizeClass.free.size(),
+                    allocations - sizeClass.releases.sum(),
+                    allocations));
+        }
+
+        return stats;
+    }
+
+    /// Return the number of bytes reserved in chunks.
+    ///
+    /// @return long
+    public long getReservedBytes() {
+        long chunks = 0;
+
+        for (final SizeClass sizeClass : this.sizeClasses) {
+            chunks += sizeClass.chunks.sum();
+        }
+
+        return chunks * this.chunkSize;
+    }
+
+    /// Allocates a chunk for a size class, slices it
+    /// into slots and returns the first of them. The
+    /// rest are added to the free list. A thread that
+    /// finds a slot freed while it waited uses it.
+    ///
+    /// @param  sizeClass   net.jmp.spring.boot.cleaners.components.SlabAllocator.SizeClass
+    /// @return             java.lang.foreign.MemorySegment
+    private MemorySegment carve(final SizeClass sizeClass) {
+        synchronized (sizeClass) {
+            final MemorySegment freed = sizeClass.free.poll();
+
+            if (freed != null) {
+                return freed;
+            }
+
+            final MemorySegment chunk = this.arena.allocate(this.chunkSize, sizeClass.slotSize);
+
+            sizeClass.chunks.increment();
+
+            for (long offset = sizeClass.slotSize; offset + sizeClass.slotSize <= this.chunkSize; offset += sizeClass.slotSize) {
+                sizeClass.free.offer(chunk.asSlice(offset, sizeClass.slotSize));
+            }
+
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("Allocated a chunk of {} bytes for the {} byte size class",
+                        this.chunkSize,
+                        sizeClass.slotSize);
+            }
+
+            return chunk.asSlice(0, sizeClass.slotSize);
+        }
+    }
+
+    /// Return the base two logarithm of the
+    /// smallest power of two not less than
+    /// the value.
+    ///
+    /// @param  value   long
+    /// @return         int
+    private static int shiftOf(final long value) {
+        return value <= 1 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(value - 1);
+    }
+
+    /// Logs the usage of each size class that
+    /// has been used and frees the chunks.
+    @Override
+    public void destroy() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        for (final SizeClassStats stats : this.getStats()) {
+            if (stats.allocations() > 0) {
+                this.logger.info("{}", stats);
+            }
+        }
+
+        this.arena.close();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package net.jmp.spring.boot.cleaners.services;
+
+/*
+ * (#)BufferService.java   0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import net.jmp.spring.boot.cleaners.classes.NativeBuffer;
+
+import net.jmp.spring.boot.cleaners.components.PooledBuffer;
+import net.jmp.spring.boot.cleaners.components.ReclamationAssist;
+import net.jmp.spring.boot.cleaners.components.ResourceFactory;
+import net.jmp.spring.boot.cleaners.components.SlabAllocator;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import org.springframework.core.annotation.Order;
+
+import org.springframework.stereotype.Service;
+
+import org.springframework.util.unit.DataSize;
+
+/// The buffer service. It fills and checks off-heap buffers
+/// from the slab allocator, closing all but one of them and
+/// abandoning the last to the cleaner, and shows that a
+/// closed buffer refuses to hand out a view. It then fills
+/// and checks a single native buffer as large as all of the
+/// pooled buffers together.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+@Service
+@Order(4)
+public class BufferService implements ServiceRunner {
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The resource factory.
+    private final ResourceFactory resourceFactory;
+
+    /// The slab allocator.
+    private final SlabAllocator slabAllocator;
+
+    /// The reclamation assist.
+    private final ReclamationAssist reclamationAssist;
+
+    /// The number of buffers filled.
+    private final int buffers;
+
+    /// The size of each buffer.
+    private final DataSize bufferSize;
+
+    /// The constructor.
+    ///
+    /// @param  resourceFactory     net.jmp.spring.boot.cleaners.components.ResourceFactory
+    /// @param  slabAllocator       net.jmp.spring.boot.cleaners.components.SlabAllocator
+    /// @param  reclamationAssist   net.jmp.spring.boot.cleaners.components.ReclamationAssist
+    /// @param  buffers             int
+    /// @param  bufferSize          org.springframework.util.unit.DataSize
+    public BufferService(final ResourceFactory resourceFactory,
+                         final SlabAllocator slabAllocator,
+                         final ReclamationAssist reclamationAssist,
+                         @Value("${cleaners.buffer-service.buffers:1000}") final int buffers,
+                         @Value("${cleaners.buffer-service.buffer-size:4KB}") final DataSize bufferSize) {
+        super();
+
+        this.resourceFactory = resourceFactory;
+        this.slabAllocator = slabAllocator;
+        this.reclamationAssist = reclamationAssist;
+        this.buffers = Math.max(1, buffers);
+        this.bufferSize = bufferSize;
+    }
+
+    /// Runs the service.
+    @Override
+    public void runService() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final long byteSize = this.bufferSize.toBytes();
+        final long start = System.nanoTime();
+
+        long checksum = 0;
+
+        for (int i = 0; i < this.buffers - 1; i++) {
+            try (final PooledBuffer buffer = this.slabAllocator.allocate(byteSize)) {
+                checksum += fillAndSum(buffer.getSegment(), (byte) i);
+            }
+        }
+
+        this.logger.info("Filled and checked {} buffers of {} bytes in {} ms (checksum {}); {} bytes are reserved",
+                this.buffers - 1,
+                byteSize,
+                (System.nanoTime() - start) / 1_000_000,
+                checksum,
+                this.slabAllocator.getReservedBytes());
+
+        // A closed buffer refuses to hand out a view of a slot that may have been reused
+
+        final PooledBuffer closed = this.slabAllocator.allocate(byteSize);
+
+        closed.close();
+
+        try {
+            closed.getSegment();
+        } catch (final IllegalStateException e) {
+            this.logger.info("A closed buffer refused a view as expected: {}", e.getMessage());
+        }
+
+        // Not using try-with-resources or an explicit close
+
+        PooledBuffer abandoned = this.slabAllocator.allocate(byteSize);
+
+        fillAndSum(abandoned.getSegment(), (byte) 1);
+
+        abandoned = null;   // Abandon the reference in anticipation of garbage collection
+
+        this.reclamationAssist.requestReclamation();
+
+        // The try-with-resources keeps the native buffer reachable while its segment is used
+
+        try (final NativeBuffer nativeBuffer = this.resourceFactory.newNativeBuffer()) {
+            nativeBuffer.setup(byteSize * this.buffers);
+
+            this.logger.info("Filled and checked a native buffer of {} bytes (checksum {})",
+                    nativeBuffer.getByteSize(),
+                    fillAndSum(nativeBuffer.getSegment(), (byte) 1));
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Fills a segment with a value and
+    /// returns the sum of its bytes.
+    ///
+    /// @param  segment java.lang.foreign.MemorySegment
+    /// @param  value   byte
+    /// @return         long
+    private static long fillAndSum(final MemorySegment segment, final byte value) {
+        segment.fill(value);
+
+        long sum = 0;
+
+        for (long offset = 0; offset < segment.byteSize(); offset++) {
+            sum += Byte.toUnsignedLong(segment.get(ValueLayout.JAVA_BYTE, offset));
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,184 @@
+package net.jmp.spring.boot.cleaners.services;
+
+/*
+ * (#)MappedFileService.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.time.Duration;
+
+import net.jmp.spring.boot.cleaners.classes.FileScanResult;
+import net.jmp.spring.boot.cleaners.classes.MappedFileResource;
+
+import net.jmp.spring.boot.cleaners.components.ResourceFactory;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import org.springframework.core.annotation.Order;
+
+import org.springframework.stereotype.Service;
+
+import org.springframework.util.unit.DataSize;
+
+/// The mapped file service. It scans a file through a memory
+/// mapping, so that even a file of several gigabytes is read
+/// in place rather than copied onto the heap. When no file is
+/// configured, a temporary file of the configured size is
+/// generated, scanned and deleted.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+@Service
+@Order(3)
+public class MappedFileService implements ServiceRunner {
+    /// A line of the generated file.
+    private static final String GENERATED_LINE = "The quick brown fox jumps over the lazy dog";
+
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The resource factory.
+    private final ResourceFactory resourceFactory;
+
+    /// The file to scan, or blank to generate one.
+    private final String path;
+
+    /// The size of a generated file.
+    private final DataSize generatedSize;
+
+    /// The constructor.
+    ///
+    /// @param  resourceFactory net.jmp.spring.boot.cleaners.components.ResourceFactory
+    /// @param  path            java.lang.String
+    /// @param  generatedSize   org.springframework.util.unit.DataSize
+    public MappedFileService(final ResourceFactory resourceFactory,
+                             @Value("${cleaners.mapped-file-service.path:}") final String path,
+                             @Value("${cleaners.mapped-file-service.generated-size:16MB}") final DataSize generatedSize) {
+        super();
+
+        this.resourceFactory = resourceFactory;
+        this.path = path;
+        this.generatedSize = generatedSize;
+    }
+
+    /// Runs the service.
+    @Override
+    public void runService() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        try {
+            final boolean generated = this.path.isBlank();
+            final Path file = generated ? this.generate(this.generatedSize.toBytes()) : Path.of(this.path);
+
+            try {
+                final FileScanResult result = this.scan(file);
+
+                this.logger.info("Scanned {} bytes of {} and found {} lines in {} ms",
+                        result.bytesScanned(),
+                        file,
+                        result.linesFound(),
+                        result.elapsed().toMillis());
+            } finally {
+                if (generated) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (final IOException e) {
+            this.logger.error(catching(e));
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Scans a file through a memory mapping,
+    /// counting its lines. The mapping is
+    /// released before the method returns.
+    ///
+    /// @param  file    java.nio.file.Path
+    /// @return         net.jmp.spring.boot.cleaners.classes.FileScanResult
+    /// @throws         java.io.UncheckedIOException    When the file cannot be mapped
+    public FileScanResult scan(final Path file) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final long start = System.nanoTime();
+        final FileScanResult result;
+
+        try (final MappedFileResource mappedFile = this.resourceFactory.newMappedFileResource()) {
+            mappedFile.setup(file);
+
+            final long linesFound = mappedFile.count((byte) '\n');
+
+            result = new FileScanResult(mappedFile.getByteSize(), linesFound, Duration.ofNanos(System.nanoTime() - start));
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+
+        return result;
+    }
+
+    /// Generates a temporary file of lines of text.
+    ///
+    /// @param  byteSize    long
+    /// @return             java.nio.file.Path
+    /// @throws             java.io.IOException When the file cannot be written
+    private Path generate(final long byteSize) throws IOException {
+        final Path file = Files.createTempFile("mapped-file-service-", ".txt");
+
+        try (final BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            for (long written = 0; written < byteSize; written += GENERATED_LINE.length() + 1) {
+                writer.write(GENERATED_LINE);
+                writer.newLine();
+            }
+        } catch (final IOException e) {
+            Files.deleteIfExists(file);
+
+            throw e;
+        }
+
+        return file;
+    }
+}
@@ -1,6 +1,7 @@
 package net.jmp.spring.boot.cleaners.services;
 
 /*
+ * (#)RoomService.java  0.3.0   10/17/2026
  * (#)RoomService.java  0.1.0   01/15/2025
  *
  * @author   Jonathan Parker
@@ -28,24 +29,48 @@ package net.jmp.spring.boot.cleaners.services;
  * SOFTWARE.
  */
 
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+import java.util.concurrent.RecursiveAction;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import net.jmp.spring.boot.cleaners.classes.CleaningMode;
 import net.jmp.spring.boot.cleaners.classes.Room;
+import net.jmp.spring.boot.cleaners.classes.RoomCleaningResult;
+import net.jmp.spring.boot.cleaners.classes.RoomSpec;
+
+import net.jmp.spring.boot.cleaners.components.ExecutorPool;
+import net.jmp.spring.boot.cleaners.components.ReclamationAssist;
+import net.jmp.spring.boot.cleaners.components.ResourceFactory;
+import net.jmp.spring.boot.cleaners.components.RoomPool;
 
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import org.springframework.context.ApplicationContext;
+import org.springframework.beans.factory.annotation.Value;
+
+import org.springframework.core.annotation.Order;
 
 import org.springframework.stereotype.Service;
 
 /// The room service. Since auto-wiring only works on Spring managed
-/// objects, and Room is not a Spring managed object, we need to pass
-/// it in as an argument on the constructor.
+/// objects, and Room is not a Spring managed object, the resource
+/// factory that creates rooms is passed in as an argument on the
+/// constructor.
 ///
-/// @version    0.1.0
+/// @version    0.3.0
 /// @since      0.1.0
 @Service
+@Order(1)
 public class RoomService implements ServiceRunner {
     /// The message text when logging a room.
     private static final String ROOM_MESSAGE_TEXT = "{}'s room has {} junk piles in it";
@@ -53,16 +78,109 @@ public class RoomService implements ServiceRunner {
     /// The logger.
     private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
-    /// The application context.
-    private final ApplicationContext applicationContext;
+    /// The rooms and junk piles cleaned by one batch.
+    ///
+    /// @param  rooms       int
+    /// @param  junkPiles   long
+    private record BatchResult(int rooms, long junkPiles) {}
+
+    /// A fork/join task that splits a range of room
+    /// specifications in half until it is no larger
+    /// than a batch, then cleans the batch. The totals
+    /// are accumulated without locking. The task is
+    /// never serialized.
+    @SuppressWarnings("serial")
+    private final class CleaningTask extends RecursiveAction {
+        /// The room specifications.
+        private final List<RoomSpec> roomSpecs;
+
+        /// The first index of the range, inclusive.
+        private final int from;
+
+        /// The last index of the range, exclusive.
+        private final int to;
+
+        /// The number of rooms cleaned.
+        private final LongAdder roomsCleaned;
+
+        /// The number of junk piles removed.
+        private final LongAdder junkPilesRemoved;
+
+        /// The constructor.
+        ///
+        /// @param  roomSpecs           java.util.List<net.jmp.spring.boot.cleaners.classes.RoomSpec>
+        /// @param  from                int
+        /// @param  to                  int
+        /// @param  roomsCleaned        java.util.concurrent.atomic.LongAdder
+        /// @param  junkPilesRemoved    java.util.concurrent.atomic.LongAdder
+        private CleaningTask(final List<RoomSpec> roomSpecs,
+                             final int from,
+                             final int to,
+                             final LongAdder roomsCleaned,
+                             final LongAdder junkPilesRemoved) {
+            this.roomSpecs = roomSpecs;
+            this.from = from;
+            this.to = to;
+            this.roomsCleaned = roomsCleaned;
+            this.junkPilesRemoved = junkPilesRemoved;
+        }
+
+        /// The compute method.
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= RoomService.this.batchSize) {
+                final BatchResult batchResult = RoomService.this.cleanBatch(
+                        this.roomSpecs.subList(this.from, this.to).iterator(),
+                        new Room[this.to - this.from]
+                );
+
+                this.roomsCleaned.add(batchResult.rooms());
+                this.junkPilesRemoved.add(batchResult.junkPiles());
+            } else {
+                final int middle = (this.from + this.to) >>> 1;
+
+                invokeAll(
+                        new CleaningTask(this.roomSpecs, this.from, middle, this.roomsCleaned, this.junkPilesRemoved),
+                        new CleaningTask(this.roomSpecs, middle, this.to, this.roomsCleaned, this.junkPilesRemoved)
+                );
+            }
+        }
+    }
+
+    /// The resource factory.
+    private final ResourceFactory resourceFactory;
+
+    /// The reclamation assist.
+    private final ReclamationAssist reclamationAssist;
+
+    /// The executor pool that owns the shared fork/join pool.
+    private final ExecutorPool executorPool;
+
+    /// The pool of rooms used for bulk cleaning.
+    private final RoomPool roomPool;
+
+    /// The number of rooms cleaned per batch.
+    private final int batchSize;
 
     /// The constructor.
     ///
-    /// @param  applicationContext  org.springframework.context.ApplicationContext
-    public RoomService(final ApplicationContext applicationContext) {
+    /// @param  resourceFactory     net.jmp.spring.boot.cleaners.components.ResourceFactory
+    /// @param  reclamationAssist   net.jmp.spring.boot.cleaners.components.ReclamationAssist
+    /// @param  executorPool        net.jmp.spring.boot.cleaners.components.ExecutorPool
+    /// @param  roomPool            net.jmp.spring.boot.cleaners.components.RoomPool
+    /// @param  batchSize           int
+    public RoomService(final ResourceFactory resourceFactory,
+                       final ReclamationAssist reclamationAssist,
+                       final ExecutorPool executorPool,
+                       final RoomPool roomPool,
+                       @Value("${cleaners.room-service.batch-size:1000}") final int batchSize) {
         super();
 
-        this.applicationContext = applicationContext;
+        this.resourceFactory = resourceFactory;
+        this.reclamationAssist = reclamationAssist;
+        this.executorPool = executorPool;
+        this.roomPool = roomPool;
+        this.batchSize = Math.max(1, batchSize);
     }
 
     /// Runs the service.
@@ -74,7 +192,7 @@ public class RoomService implements ServiceRunner {
 
         // The try-with-resources invokes the close method on Room
 
-        try (final Room myRoom = this.applicationContext.getBean(Room.class)) {
+        try (final Room myRoom = this.resourceFactory.newRoom()) {
             myRoom.setup("Jonathan", 2);
 
             if (this.logger.isInfoEnabled()) {
@@ -84,7 +202,7 @@ public class RoomService implements ServiceRunner {
 
         // Using an explicit close
 
-        final Room garage = this.applicationContext.getBean(Room.class);
+        final Room garage = this.resourceFactory.newRoom();
 
         garage.setup("Garage", 12);
 
@@ -96,7 +214,7 @@ public class RoomService implements ServiceRunner {
 
         // Not using try-with-resources or an explicit close
 
-        Room herRoom = this.applicationContext.getBean(Room.class);
+        Room herRoom = this.resourceFactory.newRoom();
 
         herRoom.setup("Dena", 5);
 
@@ -108,11 +226,146 @@ public class RoomService implements ServiceRunner {
 
         // Garbage collection will cause the reference to herRoom to become phantom reachable
         // Then the close method on Room will be invoked by the cleanable
+        // The reclamation assist requests a collection only when enough resources are outstanding
+
+        this.reclamationAssist.requestReclamation();
+
+        // Clean several rooms in bulk, first sequentially and then in parallel
+
+        final List<RoomSpec> roomSpecs = List.of(
+                new RoomSpec("Kitchen", 3),
+                new RoomSpec("Attic", 7),
+                new RoomSpec("Basement", 9)
+        );
+
+        for (final CleaningMode cleaningMode : CleaningMode.values()) {
+            final RoomCleaningResult result = this.cleanAll(roomSpecs, cleaningMode);
+
+            if (this.logger.isInfoEnabled()) {
+                this.logger.info("Cleaned {} rooms and removed {} junk piles in {} ({})",
+                        result.roomsCleaned(),
+                        result.junkPilesRemoved(),
+                        result.elapsed(),
+                        cleaningMode);
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
 
-        System.gc();
+    /// Creates, sets up and cleans a room for each
+    /// specification on the caller thread.
+    ///
+    /// @param  roomSpecs   java.util.Collection<net.jmp.spring.boot.cleaners.classes.RoomSpec>
+    /// @return             net.jmp.spring.boot.cleaners.classes.RoomCleaningResult
+    /// @since              0.3.0
+    public RoomCleaningResult cleanAll(final Collection<RoomSpec> roomSpecs) {
+        return this.cleanAll(roomSpecs, CleaningMode.SEQUENTIAL);
+    }
+
+    /// Creates, sets up and cleans a room for each
+    /// specification. The rooms are processed in
+    /// batches: every room in a batch is set up
+    /// before the batch is cleaned, and the cleaning
+    /// is logged once per batch rather than per room.
+    /// Each room remains registered with the resource
+    /// cleaner, so a failure part way through a batch
+    /// still leaves every room cleaned.
+    ///
+    /// The rooms are acquired from the room pool,
+    /// which recycles closed rooms when enabled.
+    ///
+    /// In parallel mode the batches are split across
+    /// the fork/join pool shared with the thread runner
+    /// infrastructure, so the room cleanup actions run
+    /// on every core.
+    ///
+    /// @param  roomSpecs       java.util.Collection<net.jmp.spring.boot.cleaners.classes.RoomSpec>
+    /// @param  cleaningMode    net.jmp.spring.boot.cleaners.classes.CleaningMode
+    /// @return                 net.jmp.spring.boot.cleaners.classes.RoomCleaningResult
+    /// @since                  0.3.0
+    public RoomCleaningResult cleanAll(final Collection<RoomSpec> roomSpecs, final CleaningMode cleaningMode) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final long start = System.nanoTime();
+
+        long roomsCleaned = 0;
+        long junkPilesRemoved = 0;
+
+        if (cleaningMode == CleaningMode.PARALLEL) {
+            final List<RoomSpec> roomSpecList = roomSpecs instanceof List<RoomSpec> list && list instanceof RandomAccess
+                    ? list
+                    : new ArrayList<>(roomSpecs);
+            final LongAdder roomsAdder = new LongAdder();
+            final LongAdder junkPilesAdder = new LongAdder();
+
+            this.executorPool.getForkJoinPool().invoke(
+                    new CleaningTask(roomSpecList, 0, roomSpecList.size(), roomsAdder, junkPilesAdder)
+            );
+
+            roomsCleaned = roomsAdder.sum();
+            junkPilesRemoved = junkPilesAdder.sum();
+        } else {
+            final Room[] batch = new Room[Math.min(this.batchSize, Math.max(1, roomSpecs.size()))];
+            final Iterator<RoomSpec> iterator = roomSpecs.iterator();
+
+            while (iterator.hasNext()) {
+                final BatchResult batchResult = this.cleanBatch(iterator, batch);
+
+                roomsCleaned += batchResult.rooms();
+                junkPilesRemoved += batchResult.junkPiles();
+            }
+        }
+
+        final RoomCleaningResult result = new RoomCleaningResult(
+                roomsCleaned,
+                junkPilesRemoved,
+                Duration.ofNanos(System.nanoTime() - start)
+        );
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exit());
         }
+
+        return result;
+    }
+
+    /// Sets up rooms from the iterator until the batch
+    /// is full or the iterator is exhausted, then cleans
+    /// every room in the batch.
+    ///
+    /// @param  iterator    java.util.Iterator<net.jmp.spring.boot.cleaners.classes.RoomSpec>
+    /// @param  batch       net.jmp.spring.boot.cleaners.classes.Room[]
+    /// @return             net.jmp.spring.boot.cleaners.services.RoomService.BatchResult
+    private BatchResult cleanBatch(final Iterator<RoomSpec> iterator, final Room[] batch) {
+        int batchRooms = 0;
+        long batchJunkPiles = 0;
+
+        try {
+            while (batchRooms < batch.length && iterator.hasNext()) {
+                final RoomSpec roomSpec = iterator.next();
+                final Room room = this.roomPool.acquire();
+
+                room.setup(roomSpec.name(), roomSpec.numberOfJunkPiles(), false);
+
+                batch[batchRooms++] = room;
+            }
+        } finally {
+            for (int i = 0; i < batchRooms; i++) {
+                batchJunkPiles += batch[i].getNumberOfJunkPiles();
+                batch[i].close();
+                batch[i] = null;
+            }
+        }
+
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("Cleaned a batch of {} rooms with {} junk piles", batchRooms, batchJunkPiles);
+        }
+
+        return new BatchResult(batchRooms, batchJunkPiles);
     }
 }
@@ -0,0 +1,440 @@
+package net.jmp.spring.boot.cleaners.services;
+
+/*
+ * (#)ServiceRegistry.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.*;
+
+import java.util.concurrent.*;
+
+import net.jmp.spring.boot.cleaners.classes.ServiceOutcome;
+import net.jmp.spring.boot.cleaners.classes.ServiceStatus;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import org.springframework.context.ApplicationContext;
+
+import org.springframework.core.Ordered;
+
+import org.springframework.core.annotation.Order;
+
+import org.springframework.core.convert.ConversionException;
+
+import org.springframework.core.env.Environment;
+
+import org.springframework.stereotype.Component;
+
+/// The service registry. It discovers every service runner
+/// bean and runs those selected by the services argument,
+/// such as --services=room, or all of them when there is no
+/// such argument. A service is named by its bean name without
+/// the Service suffix, in kebab case, e.g. thread-runner.
+///
+/// Each service runs on a virtual thread of its own as soon
+/// as the services it depends on have succeeded, so services
+/// with no dependency between them run concurrently and the
+/// total time approaches that of the slowest one. The order
+/// annotation of a service decides the order they start in.
+/// The timeout of every selected service is resolved and
+/// checked before any service starts, and a service that
+/// fails in any way, including while it waits for the
+/// services it depends on, is reported as failed.
+///
+/// A service that does not complete within its timeout is
+/// interrupted and reported; it is not waited for. Its
+/// virtual thread keeps running until the service responds
+/// to the interrupt, or the application exits, and can be
+/// awaited by the name of the service.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+@Component
+public class ServiceRegistry {
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The application context.
+    private final ApplicationContext context;
+
+    /// The environment.
+    private final Environment environment;
+
+    /// The selected services, or empty for all of them.
+    private final Set<String> services;
+
+    /// The timeout of a service without one of its own.
+    private final Duration timeout;
+
+    /// True when independent services run concurrently.
+    private final boolean concurrent;
+
+    /// The threads of the services that timed out, by service name.
+    private final Map<String, Thread> overruns = new ConcurrentHashMap<>();
+
+    /// The constructor.
+    ///
+    /// @param  context     org.springframework.context.ApplicationContext
+    /// @param  environment org.springframework.core.env.Environment
+    /// @param  services    java.lang.String
+    /// @param  timeout     java.time.Duration
+    /// @param  concurrent  boolean
+    public ServiceRegistry(final ApplicationContext context,
+                           final Environment environment,
+                           @Value("${services:}") final String services,
+                           @Value("${cleaners.service-registry.timeout:5m}") final Duration timeout,
+                           @Value("${cleaners.service-registry.concurrent:true}") final boolean concurrent) {
+        super();
+
+        this.context = context;
+        this.environment = environment;
+        this.services = new LinkedHashSet<>();
+        this.timeout = timeout;
+        this.concurrent = concurrent;
+
+        for (final String service : services.split(",")) {
+            if (!service.isBlank()) {
+                this.services.add(service.strip().toLowerCase(Locale.ROOT));
+            }
+        }
+    }
+
+    /// Runs the selected services and reports
+    /// the outcome and elapsed time of each.
+    ///
+    /// @return java.util.List<net.jmp.spring.boot.cleaners.classes.ServiceOutcome>
+    /// @throws java.lang.IllegalStateException     When the services depend on each other in a cycle
+    /// @throws java.lang.IllegalArgumentException  When the timeout of a service is not valid
+    public List<ServiceOutcome> runServices() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final Map<String, ServiceRunner> runners = this.getServiceRunners();
+        final Map<String, Duration> timeouts = new HashMap<>();
+
+        for (final String service : runners.keySet()) {
+            timeouts.put(service, this.getTimeout(service));
+        }
+
+        final Map<String, CompletableFuture<ServiceOutcome>> futures = new LinkedHashMap<>();
+        final long start = System.nanoTime();
+
+        CompletableFuture<ServiceOutcome> predecessor = null;
+
+        for (final Map.Entry<String, ServiceRunner> runner : runners.entrySet()) {
+            final List<CompletableFuture<ServiceOutcome>> dependencies = new ArrayList<>();
+
+            for (final String dependency : runner.getValue().getDependencies()) {
+                if (futures.containsKey(dependency)) {
+                    dependencies.add(futures.get(dependency));
+                }
+            }
+
+            final String name = runner.getKey();
+            final CompletableFuture<ServiceOutcome> after = this.concurrent ? null : predecessor;
+            final Executor executor = command -> Thread.ofVirtual().name("service-registry-" + name).start(command);
+            final long submitted = System.nanoTime();
+
+            final CompletableFuture<ServiceOutcome> future = CompletableFuture
+                    .supplyAsync(() -> this.runAfter(name, runner.getValue(), timeouts.get(name), dependencies, after), executor)
+                    .exceptionally(failure -> new ServiceOutcome(name,
+                            ServiceStatus.FAILED,
+                            Duration.ofNanos(System.nanoTime() - submitted),
+                            failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure));
+
+            futures.put(name, future);
+            predecessor = future;
+        }
+
+        final List<ServiceOutcome> outcomes = new ArrayList<>();
+
+        for (final CompletableFuture<ServiceOutcome> future : futures.values()) {
+            outcomes.add(future.join());
+        }
+
+        this.report(outcomes, Duration.ofNanos(System.nanoTime() - start));
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+
+        return outcomes;
+    }
+
+    /// Runs a service on a virtual thread of its own and
+    /// waits for it to complete within its timeout. A
+    /// service that does not is interrupted, and its
+    /// thread can be awaited with awaitService.
+    ///
+    /// @param  name    java.lang.String
+    /// @param  runner  net.jmp.spring.boot.cleaners.services.ServiceRunner
+    /// @return         net.jmp.spring.boot.cleaners.classes.ServiceOutcome
+    /// @throws java.lang.IllegalArgumentException  When the timeout of the service is not valid
+    public ServiceOutcome runService(final String name, final ServiceRunner runner) {
+        return this.runService(name, runner, this.getTimeout(name));
+    }
+
+    /// Waits for the thread of a service that timed
+    /// out to end, if it is still running.
+    ///
+    /// @param  name    java.lang.String
+    /// @throws java.lang.InterruptedException  When the wait is interrupted
+    public void awaitService(final String name) throws InterruptedException {
+        final Thread thread = this.overruns.get(name);
+
+        if (thread != null) {
+            thread.join();
+
+            this.overruns.remove(name, thread);
+        }
+    }
+
+    /// Runs a service on a virtual thread of its own and
+    /// waits for it to complete within a timeout.
+    ///
+    /// @param  name    java.lang.String
+    /// @param  runner  net.jmp.spring.boot.cleaners.services.ServiceRunner
+    /// @param  timeout java.time.Duration
+    /// @return         net.jmp.spring.boot.cleaners.classes.ServiceOutcome
+    private ServiceOutcome runService(final String name, final ServiceRunner runner, final Duration timeout) {
+        final FutureTask<Void> task = new FutureTask<>(runner::runService, null);
+        final long start = System.nanoTime();
+        final Thread thread = Thread.ofVirtual().name("service-" + name).start(task);
+
+        ServiceStatus status = ServiceStatus.SUCCEEDED;
+        Throwable failure = null;
+
+        try {
+            task.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (final ExecutionException ee) {
+            status = ServiceStatus.FAILED;
+            failure = ee.getCause();
+        } catch (final TimeoutException | InterruptedException e) {
+            task.cancel(true);
+
+            this.overruns.put(name, thread);
+
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+
+            status = ServiceStatus.TIMED_OUT;
+            failure = e;
+        }
+
+        return new ServiceOutcome(name, status, Duration.ofNanos(System.nanoTime() - start), failure);
+    }
+
+    /// Return the selected service runners by name
+    /// in the order they start in: by their order
+    /// annotation, each after its dependencies.
+    ///
+    /// @return java.util.Map<java.lang.String, net.jmp.spring.boot.cleaners.services.ServiceRunner>
+    /// @throws java.lang.IllegalStateException When the services depend on each other in a cycle
+    public Map<String, ServiceRunner> getServiceRunners() {
+        final List<String> beanNames = new ArrayList<>();
+        final Set<String> unknown = new LinkedHashSet<>(this.services);
+
+        for (final String beanName : this.context.getBeanNamesForType(ServiceRunner.class)) {
+            final String service = toServiceName(beanName);
+
+            if (this.services.isEmpty() || this.services.contains(service)) {
+                beanNames.add(beanName);
+            }
+
+            unknown.remove(service);
+        }
+
+        if (!unknown.isEmpty()) {
+            this.logger.warn("Unknown service(s) ignored: {}", unknown);
+        }
+
+        beanNames.sort(Comparator.comparingInt(this::getOrder));
+
+        final Map<String, ServiceRunner> selected = new LinkedHashMap<>();
+
+        for (final String beanName : beanNames) {
+            selected.put(toServiceName(beanName), this.context.getBean(beanName, ServiceRunner.class));
+        }
+
+        final Map<String, ServiceRunner> ordered = new LinkedHashMap<>();
+
+        for (final String service : selected.keySet()) {
+            this.addInDependencyOrder(service, selected, ordered, new LinkedHashSet<>());
+        }
+
+        return ordered;
+    }
+
+    /// Runs a service once the services it depends
+    /// on have succeeded and, when the services run
+    /// one after another, its predecessor has ended.
+    ///
+    /// @param  name            java.lang.String
+    /// @param  runner          net.jmp.spring.boot.cleaners.services.ServiceRunner
+    /// @param  timeout         java.time.Duration
+    /// @param  dependencies    java.util.List<java.util.concurrent.CompletableFuture<net.jmp.spring.boot.cleaners.classes.ServiceOutcome>>
+    /// @param  predecessor     java.util.concurrent.CompletableFuture<net.jmp.spring.boot.cleaners.classes.ServiceOutcome>
+    /// @return                 net.jmp.spring.boot.cleaners.classes.ServiceOutcome
+    private ServiceOutcome runAfter(final String name,
+                                    final ServiceRunner runner,
+                                    final Duration timeout,
+                                    final List<CompletableFuture<ServiceOutcome>> dependencies,
+                                    final CompletableFuture<ServiceOutcome> predecessor) {
+        for (final CompletableFuture<ServiceOutcome> dependency : dependencies) {
+            if (!dependency.join().isSuccessful()) {
+                return new ServiceOutcome(name, ServiceStatus.SKIPPED, Duration.ZERO, null);
+            }
+        }
+
+        if (predecessor != null) {
+            predecessor.join();
+        }
+
+        return this.runService(name, runner, timeout);
+    }
+
+    /// Adds a service to the ordered services
+    /// after the services it depends on.
+    ///
+    /// @param  service     java.lang.String
+    /// @param  selected    java.util.Map<java.lang.String, net.jmp.spring.boot.cleaners.services.ServiceRunner>
+    /// @param  ordered     java.util.Map<java.lang.String, net.jmp.spring.boot.cleaners.services.ServiceRunner>
+    /// @param  visiting    java.util.Set<java.lang.String>
+    /// @throws             java.lang.IllegalStateException When the services depend on each other in a cycle
+    private void addInDependencyOrder(final String service,
+                                      final Map<String, ServiceRunner> selected,
+                                      final Map<String, ServiceRunner> ordered,
+                                      final Set<String> visiting) {
+        if (ordered.containsKey(service)) {
+            return;
+        }
+
+        if (!visiting.add(service)) {
+            throw new IllegalStateException("The services depend on each other in a cycle: " + visiting);
+        }
+
+        final ServiceRunner runner = selected.get(service);
+
+        for (final String dependency : runner.getDependencies()) {
+            if (selected.containsKey(dependency)) {
+                this.addInDependencyOrder(dependency, selected, ordered, visiting);
+            } else {
+                this.logger.warn("The {} service depends on {}, which is not selected; the dependency is ignored",
+                        service, dependency);
+            }
+        }
+
+        visiting.remove(service);
+        ordered.put(service, runner);
+    }
+
+    /// Logs the outcome and elapsed time of
+    /// each service and the total elapsed time.
+    ///
+    /// @param  outcomes    java.util.List<net.jmp.spring.boot.cleaners.classes.ServiceOutcome>
+    /// @param  elapsed     java.time.Duration
+    private void report(final List<ServiceOutcome> outcomes, final Duration elapsed) {
+        long sumMillis = 0;
+
+        for (final ServiceOutcome outcome : outcomes) {
+            sumMillis += outcome.elapsed().toMillis();
+
+            if (outcome.isSuccessful() || outcome.status() == ServiceStatus.SKIPPED) {
+                this.logger.info("The {} service {} in {} ms",
+                        outcome.service(), outcome.status(), outcome.elapsed().toMillis());
+            } else {
+                this.logger.error("The {} service {} in {} ms: {}",
+                        outcome.service(), outcome.status(), outcome.elapsed().toMillis(), outcome.failure().toString());
+            }
+        }
+
+        this.logger.info("Ran {} service(s) in {} ms ({}); their elapsed times add up to {} ms",
+                outcomes.size(),
+                elapsed.toMillis(),
+                this.concurrent ? "concurrently" : "sequentially",
+                sumMillis);
+    }
+
+    /// Return the timeout of a service: the property
+    /// cleaners.service-registry.timeouts.<service>
+    /// when set, else the default timeout.
+    ///
+    /// @param  service java.lang.String
+    /// @return         java.time.Duration
+    /// @throws         java.lang.IllegalArgumentException  When the timeout is not a positive duration
+    Duration getTimeout(final String service) {
+        final String property = "cleaners.service-registry.timeouts." + service;
+        final Duration serviceTimeout;
+
+        try {
+            serviceTimeout = this.environment.getProperty(property, Duration.class, this.timeout);
+        } catch (final ConversionException e) {
+            throw new IllegalArgumentException("The " + property + " property is not a duration: " +
+                    this.environment.getProperty(property), e);
+        }
+
+        if (serviceTimeout.isZero() || serviceTimeout.isNegative()) {
+            throw new IllegalArgumentException("The timeout of the " + service + " service must be positive: " +
+                    serviceTimeout);
+        }
+
+        return serviceTimeout;
+    }
+
+    /// Return the order of a service runner
+    /// from its order annotation, if any.
+    ///
+    /// @param  beanName    java.lang.String
+    /// @return             int
+    private int getOrder(final String beanName) {
+        final Order order = this.context.findAnnotationOnBean(beanName, Order.class);
+
+        return order == null ? Ordered.LOWEST_PRECEDENCE : order.value();
+    }
+
+    /// Return the name of a service: its bean name
+    /// without the Service suffix, in kebab case.
+    ///
+    /// @param  beanName    java.lang.String
+    /// @return             java.lang.String
+    private static String toServiceName(final String beanName) {
+        final String name = beanName.endsWith("Service")
+                ? beanName.substring(0, beanName.length() - "Service".length())
+                : beanName;
+
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1-$2").toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,6 +1,7 @@
 package net.jmp.spring.boot.cleaners.services;
 
 /*
+ * (#)ServiceRunner.java    0.3.0   10/17/2026
  * (#)ServiceRunner.java    0.1.0   01/15/2025
  *
  * @author   Jonathan Parker
@@ -28,11 +29,24 @@ package net.jmp.spring.boot.cleaners.services;
  * SOFTWARE.
  */
 
-/// The service runner interface.
+import java.util.Set;
+
+/// The service runner interface. Every service runner
+/// bean is discovered and run by the service registry.
 ///
-/// @version    0.1.0
+/// @version    0.3.0
 /// @since      0.1.0
 public interface ServiceRunner {
     /// Runs the service.
     void runService();
+
+    /// Return the names of the services that must succeed
+    /// before this service runs, e.g. thread-runner. Services
+    /// with no dependency between them may run concurrently.
+    ///
+    /// @return java.util.Set<java.lang.String>
+    /// @since  0.3.0
+    default Set<String> getDependencies() {
+        return Set.of();
+    }
 }
@@ -0,0 +1,426 @@
+package net.jmp.spring.boot.cleaners.services;
+
+/*
+ * (#)ServiceScheduler.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+import java.util.*;
+
+import java.util.concurrent.*;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import net.jmp.spring.boot.cleaners.classes.ServiceOutcome;
+import net.jmp.spring.boot.cleaners.classes.ServiceStatus;
+
+import net.jmp.spring.boot.cleaners.components.ReclamationAssist;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import org.springframework.context.SmartLifecycle;
+
+import org.springframework.core.env.Environment;
+
+import org.springframework.scheduling.support.CronExpression;
+
+import org.springframework.stereotype.Component;
+
+/// The service scheduler of the daemon mode. Rather than
+/// running every service once, each selected service runs
+/// on a schedule of its own for as long as the application
+/// is up, so the cost of starting the JVM and the context
+/// is paid once. A service runs at a fixed rate, or on a
+/// cron schedule when one is configured for it, with an
+/// optional random jitter added to each run so services on
+/// the same schedule do not all start at once. A run that
+/// is due while the previous run of the same service is
+/// still in flight is skipped and counted. A run that times
+/// out stays in flight until the service has actually
+/// ended, so a slow service never runs on top of itself.
+///
+/// The scheduler thread is not a daemon thread, so it keeps
+/// the JVM alive. On shutdown the scheduler stops before any
+/// bean is destroyed: no further run is started, the runs
+/// in flight are given time to complete, and the pending
+/// cleanup actions are flushed, so the executor services
+/// of abandoned thread runners are retired and can then be
+/// drained by the executor pool. The runs and the flush
+/// share one shutdown timeout, which should stay within the
+/// Spring shutdown phase timeout, 30 seconds by default.
+///
+/// The bean is only created in the daemon mode, so a run
+/// of the services once does not create its scheduler.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+@Component
+@ConditionalOnProperty(name = "cleaners.daemon.enabled", havingValue = "true")
+public class ServiceScheduler implements SmartLifecycle {
+    /// The logger.
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /// The schedule of a service.
+    private final class Schedule {
+        /// The name of the service.
+        private final String name;
+
+        /// The service runner.
+        private final ServiceRunner runner;
+
+        /// The cron expression, or null to run at the fixed rate.
+        private final CronExpression cron;
+
+        /// The fixed rate in nanoseconds.
+        private final long fixedRateNanos;
+
+        /// The maximum jitter in nanoseconds.
+        private final long jitterNanos;
+
+        /// True while a run is in flight.
+        private final AtomicBoolean inFlight = new AtomicBoolean();
+
+        /// The number of runs started.
+        private final LongAdder runs = new LongAdder();
+
+        /// The number of runs skipped because the previous run was in flight.
+        private final LongAdder skipped = new LongAdder();
+
+        /// The time the next fixed-rate run is due, without jitter, in nanoseconds.
+        private long dueNanos;
+
+        /// The constructor.
+        ///
+        /// @param  name        java.lang.String
+        /// @param  runner      net.jmp.spring.boot.cleaners.services.ServiceRunner
+        /// @param  cron        org.springframework.scheduling.support.CronExpression
+        /// @param  fixedRate   java.time.Duration
+        /// @param  jitter      java.time.Duration
+        private Schedule(final String name,
+                         final ServiceRunner runner,
+                         final CronExpression cron,
+                         final Duration fixedRate,
+                         final Duration jitter) {
+            this.name = name;
+            this.runner = runner;
+            this.cron = cron;
+            this.fixedRateNanos = fixedRate.toNanos();
+            this.jitterNanos = jitter.toNanos();
+            this.dueNanos = System.nanoTime();
+        }
+
+        /// Schedules the next run. A fixed-rate run that
+        /// falls behind is not caught up; the next one
+        /// is due a full period after it was started.
+        private void scheduleNext() {
+            final long now = System.nanoTime();
+            final long delayNanos;
+
+            if (this.cron != null) {
+                final ZonedDateTime current = ZonedDateTime.now();
+                final ZonedDateTime next = this.cron.next(current);
+
+                if (next == null) {
+                    ServiceScheduler.this.logger.info("The cron schedule of the {} service has no further run",
+                            this.name);
+
+                    return;
+                }
+
+                delayNanos = Duration.between(current, next).toNanos();
+            } else {
+                if (this.dueNanos - now < 0) {
+                    this.dueNanos = now;
+                }
+
+                delayNanos = this.dueNanos - now;
+                this.dueNanos += this.fixedRateNanos;
+            }
+
+            final long jitter = this.jitterNanos > 0 ? ThreadLocalRandom.current().nextLong(this.jitterNanos + 1) : 0;
+
+            try {
+                ServiceScheduler.this.scheduler.schedule(this::fire, delayNanos + jitter, TimeUnit.NANOSECONDS);
+            } catch (final RejectedExecutionException _) {
+                // The scheduler has been stopped
+            }
+        }
+
+        /// Starts a run unless the previous
+        /// one is in flight, then schedules
+        /// the next run.
+        private void fire() {
+            if (!ServiceScheduler.this.running) {
+                return;
+            }
+
+            if (this.inFlight.compareAndSet(false, true)) {
+                this.runs.increment();
+
+                final Thread run = Thread.ofVirtual().name("service-scheduler-" + this.name).unstarted(this::run);
+
+                ServiceScheduler.this.runsInFlight.add(run);
+                run.start();
+            } else {
+                this.skipped.increment();
+
+                ServiceScheduler.this.logger.warn(
+                        "A run of the {} service was skipped because the previous run is still in flight",
+                        this.name);
+            }
+
+            this.scheduleNext();
+        }
+
+        /// Runs the service and reports the outcome. When
+        /// the service times out, the run waits for it to
+        /// end after the interrupt before it is no longer
+        /// in flight.
+        private void run() {
+            try {
+                final ServiceOutcome outcome = ServiceScheduler.this.serviceRegistry.runService(this.name, this.runner);
+
+                if (outcome.isSuccessful()) {
+                    ServiceScheduler.this.logger.info("The {} service {} in {} ms",
+                            this.name, outcome.status(), outcome.elapsed().toMillis());
+                } else {
+                    ServiceScheduler.this.logger.error("The {} service {} in {} ms: {}",
+                            this.name, outcome.status(), outcome.elapsed().toMillis(), outcome.failure().toString());
+                }
+
+                if (outcome.status() == ServiceStatus.TIMED_OUT) {
+                    ServiceScheduler.this.serviceRegistry.awaitService(this.name);
+                }
+            } catch (final InterruptedException _) {
+                ServiceScheduler.this.logger.warn("The {} service was still running when its run was interrupted",
+                        this.name);
+            } finally {
+                this.inFlight.set(false);
+                ServiceScheduler.this.runsInFlight.remove(Thread.currentThread());
+            }
+        }
+    }
+
+    /// The service registry.
+    private final ServiceRegistry serviceRegistry;
+
+    /// The reclamation assist.
+    private final ReclamationAssist reclamationAssist;
+
+    /// The environment.
+    private final Environment environment;
+
+    /// The rate of a service without a schedule of its own.
+    private final Duration fixedRate;
+
+    /// The maximum jitter of a service without one of its own.
+    private final Duration jitter;
+
+    /// The time the runs in flight and the pending
+    /// cleanup actions are given, together, on shutdown.
+    private final Duration shutdownTimeout;
+
+    /// The schedules.
+    private final List<Schedule> schedules = new ArrayList<>();
+
+    /// The threads of the runs in flight.
+    private final Set<Thread> runsInFlight = ConcurrentHashMap.newKeySet();
+
+    /// The scheduler, created on start.
+    private ScheduledExecutorService scheduler;
+
+    /// True while the scheduler is running.
+    private volatile boolean running;
+
+    /// The constructor.
+    ///
+    /// @param  serviceRegistry     net.jmp.spring.boot.cleaners.services.ServiceRegistry
+    /// @param  reclamationAssist   net.jmp.spring.boot.cleaners.components.ReclamationAssist
+    /// @param  environment         org.springframework.core.env.Environment
+    /// @param  fixedRate           java.time.Duration
+    /// @param  jitter              java.time.Duration
+    /// @param  shutdownTimeout     java.time.Duration
+    public ServiceScheduler(final ServiceRegistry serviceRegistry,
+                            final ReclamationAssist reclamationAssist,
+                            final Environment environment,
+                            @Value("${cleaners.daemon.fixed-rate:1m}") final Duration fixedRate,
+                            @Value("${cleaners.daemon.jitter:0s}") final Duration jitter,
+                            @Value("${cleaners.daemon.shutdown-timeout:20s}") final Duration shutdownTimeout) {
+        super();
+
+        this.serviceRegistry = serviceRegistry;
+        this.reclamationAssist = reclamationAssist;
+        this.environment = environment;
+        this.fixedRate = fixedRate;
+        this.jitter = jitter;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    /// Schedules every selected service. The first run
+    /// of a fixed-rate service is due immediately, plus
+    /// its jitter. The scheduler is started by the main
+    /// class in the daemon mode only, never on refresh.
+    ///
+    /// @throws java.lang.IllegalStateException     When a service has both a cron schedule and a fixed rate
+    /// @throws java.lang.IllegalArgumentException  When a cron expression, a fixed rate or a timeout is not valid
+    @Override
+    public synchronized void start() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        if (!this.running) {
+            for (final Map.Entry<String, ServiceRunner> runner : this.serviceRegistry.getServiceRunners().entrySet()) {
+                this.schedules.add(this.newSchedule(runner.getKey(), runner.getValue()));
+            }
+
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("service-scheduler").factory()
+            );
+            this.running = true;
+
+            this.schedules.forEach(Schedule::scheduleNext);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Stops scheduling runs, waits for the runs in
+    /// flight to complete and flushes the pending
+    /// cleanup actions, all within the shutdown
+    /// timeout. A run in flight includes a service
+    /// that timed out and has not yet ended. A run
+    /// that is still in flight when the timeout
+    /// elapses is interrupted.
+    @Override
+    public synchronized void stop() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        if (this.running) {
+            this.running = false;
+            this.scheduler.shutdownNow();
+
+            final long deadline = System.nanoTime() + this.shutdownTimeout.toNanos();
+
+            try {
+                for (final Thread run : List.copyOf(this.runsInFlight)) {
+                    if (!run.join(Duration.ofNanos(Math.max(1L, deadline - System.nanoTime())))) {
+                        this.logger.warn("The run on {} did not complete within {} and is being interrupted",
+                                run.getName(), this.shutdownTimeout);
+
+                        run.interrupt();
+                    }
+                }
+            } catch (final InterruptedException _) {
+                Thread.currentThread().interrupt();
+            }
+
+            this.reclamationAssist.flush(Duration.ofNanos(Math.max(0L, deadline - System.nanoTime())));
+
+            for (final Schedule schedule : this.schedules) {
+                this.logger.info("The {} service ran {} time(s) and skipped {} overlapping run(s)",
+                        schedule.name, schedule.runs.sum(), schedule.skipped.sum());
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /// Return true while the scheduler is running.
+    ///
+    /// @return boolean
+    @Override
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /// The scheduler is started by the
+    /// main class in the daemon mode only.
+    ///
+    /// @return boolean
+    @Override
+    public boolean isAutoStartup() {
+        return false;
+    }
+
+    /// Creates the schedule of a service from the properties
+    /// cleaners.daemon.schedules.<service>.cron, fixed-rate
+    /// and jitter, or else from the defaults.
+    ///
+    /// @param  name    java.lang.String
+    /// @param  runner  net.jmp.spring.boot.cleaners.services.ServiceRunner
+    /// @return         net.jmp.spring.boot.cleaners.services.ServiceScheduler.Schedule
+    /// @throws         java.lang.IllegalStateException     When the service has both a cron schedule and a fixed rate
+    /// @throws         java.lang.IllegalArgumentException  When the cron expression, the fixed rate or the timeout is not valid
+    private Schedule newSchedule(final String name, final ServiceRunner runner) {
+        final String prefix = "cleaners.daemon.schedules." + name + ".";
+        final String cron = this.environment.getProperty(prefix + "cron");
+        final Duration serviceFixedRate = this.environment.getProperty(prefix + "fixed-rate", Duration.class);
+        final Duration serviceJitter = this.environment.getProperty(prefix + "jitter", Duration.class, this.jitter);
+
+        if (cron != null && serviceFixedRate != null) {
+            throw new IllegalStateException("The " + name + " service has both a cron schedule and a fixed rate");
+        }
+
+        final Duration rate = serviceFixedRate != null ? serviceFixedRate : this.fixedRate;
+        final Duration timeout = this.serviceRegistry.getTimeout(name);
+
+        if (cron == null && (rate.isZero() || rate.isNegative())) {
+            throw new IllegalArgumentException("The fixed rate of the " + name + " service must be positive: " + rate);
+        }
+
+        final Schedule schedule = new Schedule(name,
+                runner,
+                cron != null ? CronExpression.parse(cron) : null,
+                rate,
+                serviceJitter);
+
+        this.logger.info("The {} service is scheduled {} with a jitter of up to {} and a timeout of {}",
+                name,
+                cron != null ? "on '" + cron + "'" : "every " + rate,
+                serviceJitter,
+                timeout);
+
+        return schedule;
+    }
+}
@@ -1,6 +1,7 @@
 package net.jmp.spring.boot.cleaners.services;
 
 /*
+ * (#)ThreadRunnerService.java  0.3.0   10/17/2026
  * (#)ThreadRunnerService.java  0.2.0   01/15/2025
  *
  * @author   Jonathan Parker
@@ -30,36 +31,47 @@ package net.jmp.spring.boot.cleaners.services;
 
 import net.jmp.spring.boot.cleaners.classes.ThreadRunner;
 
+import net.jmp.spring.boot.cleaners.components.ReclamationAssist;
+import net.jmp.spring.boot.cleaners.components.ResourceFactory;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.Order;
 
 import org.springframework.stereotype.Service;
 
 /// The thread service. Since auto-wiring only works on Spring managed
-/// objects, and ThreadRunner is not a Spring managed object, we need
-/// to pass it in as an argument on the constructor.
+/// objects, and ThreadRunner is not a Spring managed object, the
+/// resource factory that creates thread runners is passed in as an
+/// argument on the constructor.
 ///
-/// @version    0.2.0
+/// @version    0.3.0
 /// @since      0.2.0
 @Service
+@Order(2)
 public class ThreadRunnerService implements ServiceRunner {
     /// The logger.
     private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
-    /// The application context.
-    private final ApplicationContext applicationContext;
+    /// The resource factory.
+    private final ResourceFactory resourceFactory;
+
+    /// The reclamation assist.
+    private final ReclamationAssist reclamationAssist;
 
     /// The constructor.
     ///
-    /// @param  applicationContext    org.springframework.context.ApplicationContext
-    public ThreadRunnerService(final ApplicationContext applicationContext) {
+    /// @param  resourceFactory       net.jmp.spring.boot.cleaners.components.ResourceFactory
+    /// @param  reclamationAssist     net.jmp.spring.boot.cleaners.components.ReclamationAssist
+    public ThreadRunnerService(final ResourceFactory resourceFactory,
+                               final ReclamationAssist reclamationAssist) {
         super();
 
-        this.applicationContext = applicationContext;
+        this.resourceFactory = resourceFactory;
+        this.reclamationAssist = reclamationAssist;
     }
 
     /// Runs the service.
@@ -71,26 +83,26 @@ public class ThreadRunnerService implements ServiceRunner {
 
         // No explicit or implicit close
 
-        ThreadRunner threadRunner1 = this.applicationContext.getBean(ThreadRunner.class);
+        ThreadRunner threadRunner1 = this.resourceFactory.newThreadRunner();
 
         threadRunner1.setup();
         threadRunner1.runThreads();
 
         threadRunner1 = null;
 
-        System.gc();
+        this.reclamationAssist.requestReclamation();
 
-        // Use an explicit close
+        // Use an explicit close and wait for the executor service to be returned or terminated
 
-        final ThreadRunner threadRunner2 = this.applicationContext.getBean(ThreadRunner.class);
+        final ThreadRunner threadRunner2 = this.resourceFactory.newThreadRunner();
 
         threadRunner2.setup();
         threadRunner2.runThreads();
-        threadRunner2.close();
+        threadRunner2.closeAsync().join();
 
         // Use an implicit close
 
-        try (final ThreadRunner threadRunner3 = this.applicationContext.getBean(ThreadRunner.class)) {
+        try (final ThreadRunner threadRunner3 = this.resourceFactory.newThreadRunner()) {
             threadRunner3.setup();
             threadRunner3.runThreads();
         }
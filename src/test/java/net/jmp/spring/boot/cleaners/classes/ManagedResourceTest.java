@@ -0,0 +1,223 @@
+package net.jmp.spring.boot.cleaners.classes;
+
+/*
+ * (#)ManagedResourceTest.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.concurrent.CountDownLatch;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.jmp.spring.boot.cleaners.components.ResourceCleaner;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests of the managed resource status: a close
+/// cleans the state exactly once however many
+/// threads race to close, and a closed resource
+/// can be opened again.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+class ManagedResourceTest {
+    /// The resource cleaner.
+    private final ResourceCleaner resourceCleaner = new ResourceCleaner();
+
+    /// A state that counts its cleanups.
+    /// It never refers to its resource.
+    private static final class CountingState implements Runnable {
+        /// The number of cleanups.
+        private final AtomicInteger cleanups;
+
+        /// The constructor.
+        ///
+        /// @param  cleanups    java.util.concurrent.atomic.AtomicInteger
+        private CountingState(final AtomicInteger cleanups) {
+            this.cleanups = cleanups;
+        }
+
+        @Override
+        public void run() {
+            this.cleanups.incrementAndGet();
+        }
+    }
+
+    /// A resource that counts its cleanups and closes.
+    private static final class CountingResource extends ManagedResource<CountingState> {
+        /// The number of cleanups of every opening.
+        private final AtomicInteger cleanups = new AtomicInteger();
+
+        /// The number of times onClose was invoked.
+        private final AtomicInteger closes = new AtomicInteger();
+
+        /// The constructor.
+        ///
+        /// @param  resourceCleaner net.jmp.spring.boot.cleaners.components.ResourceCleaner
+        private CountingResource(final ResourceCleaner resourceCleaner) {
+            super(resourceCleaner);
+        }
+
+        /// Opens the resource.
+        private void setup() {
+            this.open(new CountingState(this.cleanups));
+        }
+
+        @Override
+        protected void onClose() {
+            this.closes.incrementAndGet();
+        }
+    }
+
+    /// Unregisters the cleanup metrics.
+    @AfterEach
+    void tearDown() {
+        this.resourceCleaner.destroy();
+    }
+
+    @Test
+    void aNewResourceIsNeitherOpenNorClosed() {
+        final CountingResource resource = new CountingResource(this.resourceCleaner);
+
+        assertFalse(resource.isOpen());
+        assertFalse(resource.isClosed());
+
+        resource.close();   // A close before an opening does nothing
+
+        assertFalse(resource.isClosed());
+        assertEquals(0, resource.cleanups.get());
+    }
+
+    @Test
+    void closeCleansTheStateOnce() {
+        final CountingResource resource = new CountingResource(this.resourceCleaner);
+
+        resource.setup();
+
+        assertTrue(resource.isOpen());
+
+        resource.close();
+        resource.close();
+
+        assertTrue(resource.isClosed());
+        assertEquals(1, resource.cleanups.get());
+        assertEquals(1, resource.closes.get());
+    }
+
+    @Test
+    void racingClosesCleanTheStateOnce() throws InterruptedException {
+        final int threads = 8;
+
+        for (int round = 0; round < 100; round++) {
+            final CountingResource resource = new CountingResource(this.resourceCleaner);
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Thread> closers = new ArrayList<>(threads);
+
+            resource.setup();
+
+            for (int i = 0; i < threads; i++) {
+                closers.add(Thread.ofPlatform().start(() -> {
+                    try {
+                        start.await();
+                    } catch (final InterruptedException _) {
+                        Thread.currentThread().interrupt();
+                    }
+
+                    resource.close();
+                }));
+            }
+
+            start.countDown();
+
+            for (final Thread closer : closers) {
+                closer.join();
+            }
+
+            assertEquals(1, resource.cleanups.get());
+            assertEquals(1, resource.closes.get());
+        }
+    }
+
+    @Test
+    void anOpenResourceCannotBeOpenedAgain() {
+        final CountingResource resource = new CountingResource(this.resourceCleaner);
+
+        resource.setup();
+
+        assertThrows(IllegalStateException.class, resource::setup);
+
+        resource.close();
+    }
+
+    @Test
+    void aClosedResourceCanBeOpenedAgain() {
+        final CountingResource resource = new CountingResource(this.resourceCleaner);
+
+        resource.setup();
+        resource.close();
+        resource.setup();
+
+        assertTrue(resource.isOpen());
+        assertFalse(resource.isClosed());
+
+        resource.close();
+
+        assertEquals(2, resource.cleanups.get());
+        assertEquals(2, resource.closes.get());
+    }
+
+    @Test
+    void anAbandonedResourceIsCleanedByTheCleaner() throws InterruptedException {
+        final AtomicInteger cleanups = abandon(this.resourceCleaner);
+
+        for (int attempt = 0; attempt < 100 && cleanups.get() == 0; attempt++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+
+        assertEquals(1, cleanups.get());
+        assertEquals(1, this.resourceCleaner.getMetrics(CountingResource.class).getCleanedByCleaner());
+        assertEquals(0, this.resourceCleaner.getMetrics(CountingResource.class).getOutstanding());
+    }
+
+    /// Opens a resource and drops it.
+    ///
+    /// @param  resourceCleaner net.jmp.spring.boot.cleaners.components.ResourceCleaner
+    /// @return                 java.util.concurrent.atomic.AtomicInteger The cleanups of the resource
+    private static AtomicInteger abandon(final ResourceCleaner resourceCleaner) {
+        final CountingResource resource = new CountingResource(resourceCleaner);
+
+        resource.setup();
+
+        return resource.cleanups;
+    }
+}
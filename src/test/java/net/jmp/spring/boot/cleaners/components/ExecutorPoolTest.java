@@ -0,0 +1,228 @@
+package net.jmp.spring.boot.cleaners.components;
+
+/*
+ * (#)ExecutorPoolTest.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import net.jmp.spring.boot.cleaners.classes.ExecutionMode;
+import net.jmp.spring.boot.cleaners.classes.ExecutorStrategy;
+import net.jmp.spring.boot.cleaners.classes.RejectionPolicy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests of the executor pool: leasing, releasing only
+/// quiescent executors, retiring, and rejection.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+class ExecutorPoolTest {
+    /// The pool under test, if one was created.
+    private ExecutorPool executorPool;
+
+    /// Destroys the pool.
+    @AfterEach
+    void tearDown() {
+        if (this.executorPool != null) {
+            this.executorPool.destroy();
+        }
+    }
+
+    @Test
+    void leaseReusesAReleasedExecutor() {
+        this.executorPool = newExecutorPool(4, 0, RejectionPolicy.BLOCK);
+
+        final ExecutorService leased = this.executorPool.lease(ExecutionMode.PLATFORM, ExecutorStrategy.FIXED, 2);
+
+        assertTrue(this.executorPool.release(ExecutionMode.PLATFORM, ExecutorStrategy.FIXED, leased));
+        assertEquals(1, this.executorPool.getIdleCount());
+        assertSame(leased, this.executorPool.lease(ExecutionMode.PLATFORM, ExecutorStrategy.FIXED, 2));
+        assertEquals(0, this.executorPool.getIdleCount());
+
+        leased.shutdown();
+    }
+
+    @Test
+    void leaseDoesNotReuseAnExecutorOfAnotherStrategy() {
+        this.executorPool = newExecutorPool(4, 0, RejectionPolicy.BLOCK);
+
+        final ExecutorService fixed = this.executorPool.lease(ExecutionMode.PLATFORM, ExecutorStrategy.FIXED, 2);
+
+        assertTrue(this.executorPool.release(ExecutionMode.PLATFORM, ExecutorStrategy.FIXED, fixed));
+
+        final ExecutorService forkJoin = this.executorPool.lease(ExecutionMode.PLATFORM, ExecutorStrategy.FORK_JOIN, 2);
+
+        assertNotSame(fixed, forkJoin);
+        assertNotSame(this.executorPool.getForkJoinPool(), forkJoin);
+
+        forkJoin.shutdown();
+    }
+
+    @Test
+    void releaseRefusesABusyExecutor() throws Exception {
+        this.executorPool = newExecutorPool(4, 0, RejectionPolicy.BLOCK);
+
+        final ExecutorService leased = this.executorPool.lease(ExecutionMode.PLATFORM, ExecutorStrategy.FIXED, 1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch proceed = new CountDownLatch(1);
+
+        final Future<?> task = leased.submit(() -> {
+            started.countDown();
+            proceed.await();
+
+            return null;
+        });
+
+        started.await();
+
+        assertFalse(this.executorPool.release(ExecutionMode.PLATFORM, ExecutorStrategy.FIXED, leased));
+        assertEquals(0, this.executorPool.getIdleCount());
+
+        proceed.countDown();
+        task.get();
+
+        assertTrue(this.executorPool.release(ExecutionMode.PLATFORM, ExecutorStrategy.FIXED, leased));
+    }
+
+    @Test
+    void releaseRefusesAShutDownExecutor() {
+        this.executorPool = newExecutorPool(4, 0, RejectionPolicy.BLOCK);
+
+        final ExecutorService leased = this.executorPool.lease(ExecutionMode.PLATFORM, ExecutorStrategy.FIXED, 1);
+
+        leased.shutdown();
+
+        assertFalse(this.executorPool.release(ExecutionMode.PLATFORM, ExecutorStrategy.FIXED, leased));
+    }
+
+    @Test
+    void releaseRefusesBeyondTheMaximumIdle() {
+        this.executorPool = newExecutorPool(1, 0, RejectionPolicy.BLOCK);
+
+        final ExecutorService first = this.executorPool.lease(ExecutionMode.PLATFORM, ExecutorStrategy.FIXED, 1);
+        final ExecutorService second = this.executorPool.lease(ExecutionMode.PLATFORM, ExecutorStrategy.FIXED, 1);
+
+        assertTrue(this.executorPool.release(ExecutionMode.PLATFORM, ExecutorStrategy.FIXED, first));
+        assertFalse(this.executorPool.release(ExecutionMode.PLATFORM, ExecutorStrategy.FIXED, second));
+
+        second.shutdown();
+    }
+
+    @Test
+    void virtualExecutorsAreNeverPooled() {
+        this.executorPool = newExecutorPool(4, 0, RejectionPolicy.BLOCK);
+
+        final ExecutorService leased = this.executorPool.lease(ExecutionMode.VIRTUAL, ExecutorStrategy.FIXED, 1);
+
+        assertFalse(this.executorPool.release(ExecutionMode.VIRTUAL, ExecutorStrategy.FIXED, leased));
+        assertEquals(0, this.executorPool.getIdleCount());
+
+        leased.shutdown();
+    }
+
+    @Test
+    void retireCompletesOnceTheTasksInFlightHaveEnded() throws Exception {
+        this.executorPool = newExecutorPool(4, 0, RejectionPolicy.BLOCK);
+
+        final ExecutorService leased = this.executorPool.lease(ExecutionMode.PLATFORM, ExecutorStrategy.FIXED, 1);
+        final CountDownLatch proceed = new CountDownLatch(1);
+
+        leased.submit(() -> {
+            proceed.await();
+
+            return null;
+        });
+
+        final var terminated = this.executorPool.retire(leased);
+
+        assertTrue(leased.isShutdown());
+        assertFalse(terminated.isDone());
+
+        proceed.countDown();
+        terminated.get(5, TimeUnit.SECONDS);
+
+        assertTrue(leased.isTerminated());
+    }
+
+    @Test
+    void aFullQueueFailsFastUnderTheFailFastPolicy() throws Exception {
+        this.executorPool = newExecutorPool(4, 1, RejectionPolicy.FAIL_FAST);
+
+        final ExecutorService leased = this.executorPool.lease(ExecutionMode.PLATFORM, ExecutorStrategy.FIXED, 1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch proceed = new CountDownLatch(1);
+
+        leased.submit(() -> {
+            started.countDown();
+            proceed.await();
+
+            return null;
+        });
+
+        started.await();
+        leased.submit(() -> {});    // Fills the queue
+
+        assertThrows(RejectedExecutionException.class, () -> leased.submit(() -> {}));
+        assertEquals(1, this.executorPool.getRejectedCount());
+
+        proceed.countDown();
+        leased.shutdown();
+    }
+
+    @Test
+    void leaseFailsOnceThePoolIsDestroyed() {
+        this.executorPool = newExecutorPool(4, 0, RejectionPolicy.BLOCK);
+        this.executorPool.destroy();
+
+        assertThrows(IllegalStateException.class,
+                () -> this.executorPool.lease(ExecutionMode.PLATFORM, ExecutorStrategy.FIXED, 1));
+
+        this.executorPool = null;
+    }
+
+    /// Creates an executor pool.
+    ///
+    /// @param  maxIdle         int
+    /// @param  queueCapacity   int
+    /// @param  rejectionPolicy net.jmp.spring.boot.cleaners.classes.RejectionPolicy
+    /// @return                 net.jmp.spring.boot.cleaners.components.ExecutorPool
+    private static ExecutorPool newExecutorPool(final int maxIdle,
+                                                final int queueCapacity,
+                                                final RejectionPolicy rejectionPolicy) {
+        return new ExecutorPool(maxIdle, 0, Duration.ofMinutes(1), Duration.ofSeconds(2), queueCapacity, rejectionPolicy);
+    }
+}
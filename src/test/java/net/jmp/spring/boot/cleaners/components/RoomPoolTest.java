@@ -0,0 +1,119 @@
+package net.jmp.spring.boot.cleaners.components;
+
+/*
+ * (#)RoomPoolTest.java    0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import net.jmp.spring.boot.cleaners.classes.Room;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests of the room pool: a closed room is handed
+/// out again, and a pooled room is only set up by
+/// the caller that acquired it.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+class RoomPoolTest {
+    /// The resource cleaner.
+    private final ResourceCleaner resourceCleaner = new ResourceCleaner();
+
+    /// The pool under test.
+    private final RoomPool roomPool = new RoomPool(this.resourceCleaner, true, 1);
+
+    /// Destroys the resource cleaner.
+    @AfterEach
+    void tearDown() {
+        this.resourceCleaner.destroy();
+    }
+
+    @Test
+    void aClosedRoomIsAcquiredAgain() {
+        final Room room = this.roomPool.acquire();
+
+        room.setup("Jonathan", 3, false);
+        room.close();
+
+        assertEquals(1, this.roomPool.getIdleCount());
+        assertSame(room, this.roomPool.acquire());
+        assertEquals(1, this.roomPool.getReusedCount());
+    }
+
+    @Test
+    void aPooledRoomCannotBeSetUpAgainWithoutAnAcquisition() {
+        final Room room = this.roomPool.acquire();
+
+        room.setup("Jonathan", 3, false);
+        room.close();
+
+        assertThrows(IllegalStateException.class, () -> room.setup("Jonathan", 4, false));
+        assertEquals(1, this.roomPool.getIdleCount());
+    }
+
+    @Test
+    void aPooledRoomIsSetUpOncePerAcquisition() {
+        final Room room = this.roomPool.acquire();
+
+        room.setup("Jonathan", 3, false);
+        room.close();
+
+        final Room reused = this.roomPool.acquire();
+
+        reused.setup("Rachel", 5, false);
+
+        assertThrows(IllegalStateException.class, () -> room.setup("Jonathan", 4, false));
+        assertEquals("Rachel", reused.getName());
+        assertEquals(5, reused.getNumberOfJunkPiles());
+
+        reused.close();
+    }
+
+    @Test
+    void aRoomCannotBeAcquiredTwiceOrFromAnotherPool() {
+        final Room room = this.roomPool.acquire();
+
+        assertThrows(IllegalStateException.class, () -> room.acquire(this.roomPool));
+        assertThrows(IllegalStateException.class,
+                () -> room.acquire(new RoomPool(this.resourceCleaner, true, 1)));
+    }
+
+    @Test
+    void anUnpooledRoomCanBeSetUpAgainAfterClose() {
+        final Room room = new RoomPool(this.resourceCleaner, false, 1).acquire();
+
+        room.setup("Jonathan", 3, false);
+        room.close();
+        room.setup("Jonathan", 4, false);
+
+        assertEquals(4, room.getNumberOfJunkPiles());
+
+        room.close();
+    }
+}
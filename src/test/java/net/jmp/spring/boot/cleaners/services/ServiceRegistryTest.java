@@ -0,0 +1,205 @@
+package net.jmp.spring.boot.cleaners.services;
+
+/*
+ * (#)ServiceRegistryTest.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import net.jmp.spring.boot.cleaners.classes.ServiceOutcome;
+import net.jmp.spring.boot.cleaners.classes.ServiceStatus;
+
+import org.junit.jupiter.api.Test;
+
+import static net.jmp.spring.boot.cleaners.services.TestServiceRunner.newServiceRegistry;
+import static net.jmp.spring.boot.cleaners.services.TestServiceRunner.sleepUninterruptibly;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests of the service registry: selection, dependency
+/// order, failures, timeouts and their validation.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+class ServiceRegistryTest {
+    /// The events recorded by the services, in order.
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void servicesAreNamedInKebabCaseAndSelectedByName() {
+        final Map<String, ServiceRunner> runners = new LinkedHashMap<>();
+
+        runners.put("threadRunnerService", this.recording("thread-runner", Duration.ZERO));
+        runners.put("roomService", this.recording("room", Duration.ZERO));
+
+        final ServiceRegistry serviceRegistry = newServiceRegistry(runners, Map.of("services", "room"), true);
+
+        assertEquals(List.of("room"), List.copyOf(serviceRegistry.getServiceRunners().keySet()));
+        assertEquals(List.of("room"), this.names(serviceRegistry.runServices()));
+        assertEquals(List.of("room-start", "room-end"), this.events);
+    }
+
+    @Test
+    void aServiceStartsAfterTheServicesItDependsOn() {
+        final Map<String, ServiceRunner> runners = new LinkedHashMap<>();
+
+        runners.put("secondService", this.recording("second", Duration.ZERO, "first"));
+        runners.put("firstService", this.recording("first", Duration.ofMillis(100)));
+
+        final ServiceRegistry serviceRegistry = newServiceRegistry(runners, Map.of(), true);
+        final List<ServiceOutcome> outcomes = serviceRegistry.runServices();
+
+        assertEquals(List.of("first", "second"), this.names(outcomes));
+        assertTrue(outcomes.stream().allMatch(ServiceOutcome::isSuccessful));
+        assertEquals(List.of("first-start", "first-end", "second-start", "second-end"), this.events);
+    }
+
+    @Test
+    void sequentialServicesStartAfterTheirPredecessor() {
+        final Map<String, ServiceRunner> runners = new LinkedHashMap<>();
+
+        runners.put("firstService", this.recording("first", Duration.ofMillis(100)));
+        runners.put("secondService", this.recording("second", Duration.ZERO));
+
+        newServiceRegistry(runners, Map.of(), false).runServices();
+
+        assertEquals(List.of("first-start", "first-end", "second-start", "second-end"), this.events);
+    }
+
+    @Test
+    void aFailedServiceSkipsTheServicesThatDependOnIt() {
+        final Map<String, ServiceRunner> runners = new LinkedHashMap<>();
+        final IllegalStateException failure = new IllegalStateException("The first service failed");
+
+        runners.put("firstService", new TestServiceRunner(() -> {
+            throw failure;
+        }));
+        runners.put("secondService", this.recording("second", Duration.ZERO, "first"));
+        runners.put("thirdService", this.recording("third", Duration.ZERO));
+
+        final List<ServiceOutcome> outcomes = newServiceRegistry(runners, Map.of(), true).runServices();
+
+        assertEquals(ServiceStatus.FAILED, outcomes.get(0).status());
+        assertSame(failure, outcomes.get(0).failure());
+        assertEquals(ServiceStatus.SKIPPED, outcomes.get(1).status());
+        assertEquals(ServiceStatus.SUCCEEDED, outcomes.get(2).status());
+        assertFalse(this.events.contains("second-start"));
+    }
+
+    @Test
+    void aServiceThatTimesOutIsReportedAndCanBeAwaited() throws InterruptedException {
+        final AtomicBoolean ended = new AtomicBoolean();
+        final Map<String, ServiceRunner> runners = Map.of("slowService", new TestServiceRunner(() -> {
+            sleepUninterruptibly(Duration.ofMillis(500));
+            ended.set(true);
+        }));
+
+        final ServiceRegistry serviceRegistry = newServiceRegistry(runners,
+                Map.of("cleaners.service-registry.timeouts.slow", "50ms"),
+                true);
+
+        final List<ServiceOutcome> outcomes = serviceRegistry.runServices();
+
+        assertEquals(ServiceStatus.TIMED_OUT, outcomes.getFirst().status());
+        assertFalse(ended.get());
+
+        serviceRegistry.awaitService("slow");
+
+        assertTrue(ended.get());
+    }
+
+    @Test
+    void anInvalidTimeoutIsRejectedBeforeAnyServiceRuns() {
+        final Map<String, ServiceRunner> runners = new LinkedHashMap<>();
+
+        runners.put("firstService", this.recording("first", Duration.ZERO));
+        runners.put("secondService", this.recording("second", Duration.ZERO));
+
+        final ServiceRegistry serviceRegistry = newServiceRegistry(runners,
+                Map.of("cleaners.service-registry.timeouts.second", "banana"),
+                true);
+
+        assertThrows(IllegalArgumentException.class, serviceRegistry::runServices);
+        assertTrue(this.events.isEmpty());
+    }
+
+    @Test
+    void aTimeoutMustBePositive() {
+        final ServiceRegistry serviceRegistry = newServiceRegistry(
+                Map.of("firstService", this.recording("first", Duration.ZERO)),
+                Map.of("cleaners.service-registry.timeouts.first", "0s"),
+                true);
+
+        assertThrows(IllegalArgumentException.class, serviceRegistry::runServices);
+        assertTrue(this.events.isEmpty());
+    }
+
+    @Test
+    void servicesThatDependOnEachOtherAreRejected() {
+        final Map<String, ServiceRunner> runners = new LinkedHashMap<>();
+
+        runners.put("firstService", this.recording("first", Duration.ZERO, "second"));
+        runners.put("secondService", this.recording("second", Duration.ZERO, "first"));
+
+        final ServiceRegistry serviceRegistry = newServiceRegistry(runners, Map.of(), true);
+
+        assertThrows(IllegalStateException.class, serviceRegistry::getServiceRunners);
+        assertThrows(IllegalStateException.class, serviceRegistry::runServices);
+    }
+
+    /// Return a service runner that records its start and end.
+    ///
+    /// @param  name            java.lang.String
+    /// @param  duration        java.time.Duration
+    /// @param  dependencies    java.lang.String[]
+    /// @return                 net.jmp.spring.boot.cleaners.services.ServiceRunner
+    private ServiceRunner recording(final String name, final Duration duration, final String... dependencies) {
+        return new TestServiceRunner(() -> {
+            this.events.add(name + "-start");
+
+            sleepUninterruptibly(duration);
+
+            this.events.add(name + "-end");
+        }, dependencies);
+    }
+
+    /// Return the names of the services of the outcomes.
+    ///
+    /// @param  outcomes    java.util.List<net.jmp.spring.boot.cleaners.classes.ServiceOutcome>
+    /// @return             java.util.List<java.lang.String>
+    private List<String> names(final List<ServiceOutcome> outcomes) {
+        return outcomes.stream().map(ServiceOutcome::service).toList();
+    }
+}
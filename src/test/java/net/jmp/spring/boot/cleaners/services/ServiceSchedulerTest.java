@@ -0,0 +1,167 @@
+package net.jmp.spring.boot.cleaners.services;
+
+/*
+ * (#)ServiceSchedulerTest.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.Map;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.jmp.spring.boot.cleaners.components.ReclamationAssist;
+import net.jmp.spring.boot.cleaners.components.ResourceCleaner;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static net.jmp.spring.boot.cleaners.services.TestServiceRunner.newEnvironment;
+import static net.jmp.spring.boot.cleaners.services.TestServiceRunner.newServiceRegistry;
+import static net.jmp.spring.boot.cleaners.services.TestServiceRunner.sleepUninterruptibly;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// Tests of the service scheduler: services run on their
+/// schedules, a run never overlaps the previous run of
+/// the same service, even one that timed out, and a stop
+/// waits for the runs in flight.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+class ServiceSchedulerTest {
+    /// The resource cleaner.
+    private final ResourceCleaner resourceCleaner = new ResourceCleaner();
+
+    /// The reclamation assist.
+    private final ReclamationAssist reclamationAssist =
+            new ReclamationAssist(this.resourceCleaner, false, 1000, Duration.ofSeconds(10));
+
+    /// The scheduler under test, if one was created.
+    private ServiceScheduler serviceScheduler;
+
+    /// Stops the scheduler and destroys the components.
+    @AfterEach
+    void tearDown() {
+        if (this.serviceScheduler != null) {
+            this.serviceScheduler.stop();
+        }
+
+        this.reclamationAssist.destroy();
+        this.resourceCleaner.destroy();
+    }
+
+    @Test
+    void aServiceRunsAtItsFixedRate() {
+        final AtomicInteger runs = new AtomicInteger();
+
+        this.serviceScheduler = this.newServiceScheduler(
+                Map.of("fastService", new TestServiceRunner(runs::incrementAndGet)),
+                Map.of("cleaners.daemon.schedules.fast.fixed-rate", "20ms"));
+
+        this.serviceScheduler.start();
+
+        assertTrue(this.serviceScheduler.isRunning());
+
+        sleepUninterruptibly(Duration.ofMillis(300));
+
+        this.serviceScheduler.stop();
+
+        assertFalse(this.serviceScheduler.isRunning());
+        assertTrue(runs.get() >= 3, "The service ran " + runs.get() + " time(s)");
+    }
+
+    @Test
+    void aRunThatTimedOutIsNotOverlapped() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final AtomicInteger runs = new AtomicInteger();
+
+        final ServiceRunner slow = new TestServiceRunner(() -> {
+            runs.incrementAndGet();
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+
+            sleepUninterruptibly(Duration.ofMillis(150));
+
+            running.decrementAndGet();
+        });
+
+        this.serviceScheduler = this.newServiceScheduler(Map.of("slowService", slow),
+                Map.of("cleaners.daemon.schedules.slow.fixed-rate", "20ms",
+                        "cleaners.service-registry.timeouts.slow", "10ms"));
+
+        this.serviceScheduler.start();
+
+        sleepUninterruptibly(Duration.ofMillis(700));
+
+        this.serviceScheduler.stop();
+
+        assertEquals(1, maxRunning.get());
+        assertEquals(0, running.get(), "The stop did not wait for the run that timed out");
+        assertTrue(runs.get() >= 2, "The service ran " + runs.get() + " time(s)");
+    }
+
+    @Test
+    void aServiceCannotHaveBothACronScheduleAndAFixedRate() {
+        this.serviceScheduler = this.newServiceScheduler(
+                Map.of("firstService", new TestServiceRunner(() -> {})),
+                Map.of("cleaners.daemon.schedules.first.fixed-rate", "1s",
+                        "cleaners.daemon.schedules.first.cron", "0 * * * * *"));
+
+        assertThrows(IllegalStateException.class, this.serviceScheduler::start);
+        assertFalse(this.serviceScheduler.isRunning());
+    }
+
+    @Test
+    void anInvalidTimeoutIsRejectedOnStart() {
+        final AtomicInteger runs = new AtomicInteger();
+
+        this.serviceScheduler = this.newServiceScheduler(
+                Map.of("firstService", new TestServiceRunner(runs::incrementAndGet)),
+                Map.of("cleaners.service-registry.timeouts.first", "banana"));
+
+        assertThrows(IllegalArgumentException.class, this.serviceScheduler::start);
+        assertFalse(this.serviceScheduler.isRunning());
+        assertEquals(0, runs.get());
+    }
+
+    /// Creates a service scheduler over service
+    /// runners, with a default rate of one minute.
+    ///
+    /// @param  runners     java.util.Map<java.lang.String, net.jmp.spring.boot.cleaners.services.ServiceRunner>
+    /// @param  properties  java.util.Map<java.lang.String, java.lang.Object>
+    /// @return             net.jmp.spring.boot.cleaners.services.ServiceScheduler
+    private ServiceScheduler newServiceScheduler(final Map<String, ServiceRunner> runners,
+                                                 final Map<String, Object> properties) {
+        return new ServiceScheduler(newServiceRegistry(runners, properties, true),
+                this.reclamationAssist,
+                newEnvironment(properties),
+                Duration.ofMinutes(1),
+                Duration.ZERO,
+                Duration.ofSeconds(5));
+    }
+}
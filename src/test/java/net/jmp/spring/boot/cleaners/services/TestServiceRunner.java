@@ -0,0 +1,132 @@
+package net.jmp.spring.boot.cleaners.services;
+
+/*
+ * (#)TestServiceRunner.java 0.3.0   10/17/2026
+ *
+ * @author   Jonathan Parker
+ *
+ * MIT License
+ *
+ * Copyright (c) 2025 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.time.Duration;
+
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.boot.convert.ApplicationConversionService;
+
+import org.springframework.context.support.GenericApplicationContext;
+
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+/// A service runner for the tests, with the dependencies
+/// and the body it is given, and the means to build a
+/// service registry over a set of them.
+///
+/// @version    0.3.0
+/// @since      0.3.0
+final class TestServiceRunner implements ServiceRunner {
+    /// The body of the service.
+    private final Runnable body;
+
+    /// The names of the services this one depends on.
+    private final Set<String> dependencies;
+
+    /// The constructor.
+    ///
+    /// @param  body            java.lang.Runnable
+    /// @param  dependencies    java.lang.String[]
+    TestServiceRunner(final Runnable body, final String... dependencies) {
+        super();
+
+        this.body = body;
+        this.dependencies = Set.of(dependencies);
+    }
+
+    @Override
+    public void runService() {
+        this.body.run();
+    }
+
+    @Override
+    public Set<String> getDependencies() {
+        return this.dependencies;
+    }
+
+    /// Creates a service registry over service runners
+    /// registered as beans named after their service,
+    /// e.g. firstService for the first service, in the
+    /// order given.
+    ///
+    /// @param  runners     java.util.Map<java.lang.String, net.jmp.spring.boot.cleaners.services.ServiceRunner>
+    /// @param  properties  java.util.Map<java.lang.String, java.lang.Object>
+    /// @param  concurrent  boolean
+    /// @return             net.jmp.spring.boot.cleaners.services.ServiceRegistry
+    static ServiceRegistry newServiceRegistry(final Map<String, ServiceRunner> runners,
+                                              final Map<String, Object> properties,
+                                              final boolean concurrent) {
+        final GenericApplicationContext context = new GenericApplicationContext();
+
+        runners.forEach((beanName, runner) -> context.registerBean(beanName, ServiceRunner.class, () -> runner));
+        context.refresh();
+
+        final StandardEnvironment environment = newEnvironment(properties);
+
+        return new ServiceRegistry(context,
+                environment,
+                environment.getProperty("services", ""),
+                Duration.ofSeconds(10),
+                concurrent);
+    }
+
+    /// Creates an environment with the properties
+    /// and the conversions of Spring Boot, such as
+    /// that of 50ms to a duration.
+    ///
+    /// @param  properties  java.util.Map<java.lang.String, java.lang.Object>
+    /// @return             org.springframework.core.env.StandardEnvironment
+    static StandardEnvironment newEnvironment(final Map<String, Object> properties) {
+        final StandardEnvironment environment = new StandardEnvironment();
+
+        environment.setConversionService(new ApplicationConversionService());
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+
+        return environment;
+    }
+
+    /// Waits for a time, ignoring interrupts, as a
+    /// service that does not respond to them would.
+    ///
+    /// @param  duration    java.time.Duration
+    static void sleepUninterruptibly(final Duration duration) {
+        final long deadline = System.nanoTime() + duration.toNanos();
+
+        for (long remaining = duration.toNanos(); remaining > 0; remaining = deadline - System.nanoTime()) {
+            Thread.interrupted();
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}